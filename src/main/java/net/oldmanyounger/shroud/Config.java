@@ -5,11 +5,11 @@ import net.neoforged.neoforge.common.ModConfigSpec;
 /**
  * Defines Shroud's configuration specification.
  *
- * <p>This class is intentionally minimal until Shroud has real configurable
- * gameplay, worldgen, rendering, or compatibility options.
+ * <p>This class declares Shroud's common config values, currently the opt-in soul-capture
+ * storage mode for binding pedestals.
  *
  * <p>In the broader context of the project, this class provides a stable place
- * for future config values while avoiding leftover template settings.
+ * for config values while avoiding leftover template settings.
  */
 public final class Config {
 
@@ -20,6 +20,11 @@ public final class Config {
     // Builder used to declare Shroud config entries before the spec is built
     private static final ModConfigSpec.Builder BUILDER = new ModConfigSpec.Builder();
 
+    // Whether binding pedestals store bound mobs as serialized data instead of keeping them in the world
+    public static final ModConfigSpec.BooleanValue PEDESTAL_SOUL_CAPTURE = BUILDER
+            .comment("Stores mobs bound to binding pedestals as serialized data and removes them from the world until released or needed by a ritual")
+            .define("pedestalSoulCapture", false);
+
     // Built config specification used when registering Shroud config with NeoForge
     public static final ModConfigSpec SPEC = BUILDER.build();
 
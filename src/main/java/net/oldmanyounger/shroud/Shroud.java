@@ -10,8 +10,10 @@ import net.minecraft.world.level.levelgen.Heightmap;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.fml.common.Mod;
+import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.neoforged.neoforge.event.entity.RegisterSpawnPlacementsEvent;
@@ -23,6 +25,7 @@ import net.oldmanyounger.shroud.entity.ModEntities;
 import net.oldmanyounger.shroud.entity.client.*;
 import net.oldmanyounger.shroud.item.ModCreativeModeTabs;
 import net.oldmanyounger.shroud.item.ModItems;
+import net.oldmanyounger.shroud.portal.ShroudPoiTypes;
 import net.oldmanyounger.shroud.ritual.recipe.RitualRecipeRegistries;
 import net.oldmanyounger.shroud.sound.ModSounds;
 import net.oldmanyounger.shroud.util.ModItemProperties;
@@ -62,8 +65,10 @@ public class Shroud {
     //  CONSTRUCTOR / REGISTRATION
     // ==================================
 
-    // Registers listeners and deferred registries on mod load
-    public Shroud(IEventBus modEventBus) {
+    // Registers listeners, config, and deferred registries on mod load
+    public Shroud(IEventBus modEventBus, ModContainer modContainer) {
+
+        modContainer.registerConfig(ModConfig.Type.COMMON, Config.SPEC);
 
         modEventBus.addListener(this::commonSetup);
         modEventBus.addListener(this::registerSpawnPlacements);
@@ -83,6 +88,7 @@ public class Shroud {
 
         ModMobEffects.MOB_EFFECTS.register(modEventBus);
         ModBlockEntities.BLOCK_ENTITIES.register(modEventBus);
+        ShroudPoiTypes.register(modEventBus);
 
         RitualRecipeRegistries.register(modEventBus);
     }
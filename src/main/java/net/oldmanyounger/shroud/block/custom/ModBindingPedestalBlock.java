@@ -116,7 +116,7 @@ public class ModBindingPedestalBlock extends BaseEntityBlock {
         if (!state.is(newState.getBlock())) {
             ModBindingPedestalBlockEntity pedestal = getPedestalEntity(level, pos);
             if (pedestal != null) {
-                pedestal.releaseBoundMob();
+                pedestal.releaseBoundMobForRemoval();
             }
         }
 
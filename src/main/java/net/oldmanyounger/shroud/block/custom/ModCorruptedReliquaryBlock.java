@@ -3,13 +3,10 @@ package net.oldmanyounger.shroud.block.custom;
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.ItemInteractionResult;
-import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -23,6 +20,8 @@ import net.minecraft.world.level.block.Mirror;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.DirectionProperty;
@@ -30,6 +29,7 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import net.oldmanyounger.shroud.block.entity.ModBlockEntities;
 import net.oldmanyounger.shroud.block.entity.ModCorruptedReliquaryBlockEntity;
 import net.oldmanyounger.shroud.ritual.RitualActivationHandler;
 import net.oldmanyounger.shroud.ritual.RitualExecutionService;
@@ -39,8 +39,9 @@ import org.jetbrains.annotations.Nullable;
  * Block implementation for the Corrupted Reliquary item-input structure.
  *
  * <p>This block routes world interactions into reliquary storage behavior, including
- * single-item insertion on right click, shift-right-click LIFO removal, dropped-item
- * auto-insertion on top contact, ritual activation attempts, and inventory spill on replacement.
+ * single-item insertion on right click, shift-right-click LIFO removal, ritual activation
+ * attempts, and inventory spill on replacement. Dropped items resting on top are collected by the
+ * block entity's throttled server sweep rather than per-collision callbacks.
  *
  * <p>In the broader context of the project, this class provides the physical world-facing
  * entry point for ritual crafting inputs and activation attempts before full ritual execution
@@ -105,6 +106,17 @@ public class ModCorruptedReliquaryBlock extends BaseEntityBlock {
         return new ModCorruptedReliquaryBlockEntity(pos, state);
     }
 
+    // Supplies the client ticker for ritual phase particles and the server ticker for coalesced slot sync
+    @Nullable
+    @Override
+    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
+        if (type != ModBlockEntities.CORRUPTED_RELIQUARY.get()) return null;
+
+        return level.isClientSide
+                ? (lvl, p, st, be) -> ((ModCorruptedReliquaryBlockEntity) be).clientTick()
+                : (lvl, p, st, be) -> ((ModCorruptedReliquaryBlockEntity) be).serverTick();
+    }
+
     // ==================================
     //  BLOCKSTATE ORIENTATION
     // ==================================
@@ -238,36 +250,6 @@ public class ModCorruptedReliquaryBlock extends BaseEntityBlock {
     //  WORLD INTERACTION
     // ==================================
 
-    // Auto-inserts dropped item entities that contact the top of the reliquary
-    @Override
-    protected void entityInside(BlockState state, Level level, BlockPos pos, Entity entity) {
-        super.entityInside(state, level, pos, entity);
-
-        if (level.isClientSide) return;
-        if (!(entity instanceof ItemEntity itemEntity)) return;
-        if (itemEntity.getY() < pos.getY() + 0.55D) return;
-
-        BlockEntity blockEntity = level.getBlockEntity(pos);
-        if (!(blockEntity instanceof ModCorruptedReliquaryBlockEntity reliquary)) return;
-
-        // Clears stale ritual lock before auto-insert from dropped items
-        if (level instanceof ServerLevel serverLevel) {
-            RitualExecutionService.clearStaleLockIfNotPending(serverLevel, pos, reliquary);
-        }
-
-        ItemStack stack = itemEntity.getItem();
-        if (stack.isEmpty()) return;
-
-        int inserted = reliquary.tryInsertAsMany(stack);
-        if (inserted <= 0) return;
-
-        if (stack.isEmpty()) {
-            itemEntity.discard();
-        } else {
-            itemEntity.setItem(stack);
-        }
-    }
-
     // Drops all stored items when the block is replaced by a different block
     @Override
     protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
@@ -299,16 +281,7 @@ public class ModCorruptedReliquaryBlock extends BaseEntityBlock {
         RitualActivationHandler.RitualActivationResult result =
                 RitualActivationHandler.tryActivate(level, pos, player, reliquary);
 
-        switch (result.status()) {
-            case RELIQUARY_LOCKED -> player.displayClientMessage(Component.literal("Reliquary is locked"), true);
-            case NO_MATCH -> player.displayClientMessage(Component.literal("No matching ritual"), false);
-            case EXECUTION_FAILED -> player.displayClientMessage(Component.literal(
-                    result.execution().map(RitualExecutionService.RitualExecutionResult::message).orElse("Ritual failed")
-            ), true);
-            case EXECUTED -> player.displayClientMessage(Component.literal("Ritual started"), true);
-            default -> {
-            }
-        }
+        RitualActivationHandler.sendFeedback(player, result);
 
         return ItemInteractionResult.SUCCESS;
     }
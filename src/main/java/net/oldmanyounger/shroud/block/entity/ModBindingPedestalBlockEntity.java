@@ -4,13 +4,21 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.network.PacketDistributor;
+import net.oldmanyounger.shroud.Config;
+import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.network.payload.PedestalHealthSyncPayload;
+import net.oldmanyounger.shroud.ritual.BindingPedestalRegistry;
 import net.oldmanyounger.shroud.tag.ModEntityTypeTags;
 import org.jetbrains.annotations.Nullable;
 
@@ -20,9 +28,13 @@ import java.util.UUID;
  * Block entity that stores and manages one mob bound to a Binding Pedestal.
  *
  * <p>This block entity captures a mob when one enters pedestal space, persists
- * bound identity and snapshot metadata, and keeps the bound mob positioned on top of
- * the pedestal each server tick. It intentionally focuses on pedestal behavior and does not
- * execute ritual crafting.
+ * bound identity and snapshot metadata, and keeps the bound mob in stasis on top of the
+ * pedestal. Stasis suspends the mob's AI while bound and only re-anchors it when its position
+ * actually drifts, restoring the mob's original AI state on release. The mob carries its own
+ * stasis marker so it can restore itself if it outlives its binding while unloaded. When soul
+ * capture is enabled in config, an idle bound mob is serialized into the pedestal and removed from
+ * the level, and is re-materialized when released or when a ritual needs to damage it. It
+ * intentionally focuses on pedestal behavior and does not execute ritual crafting.
  *
  * <p>In the broader context of the project, this class provides the mob-input anchor
  * needed for ritual validation flows while remaining usable as a standalone world mechanic.
@@ -51,12 +63,39 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
     // NBT key for persisted ritual lock state
     private static final String TAG_RITUAL_LOCKED = "RitualLocked";
 
+    // NBT key for the bound mob's NoAI state before stasis was applied
+    private static final String TAG_BOUND_MOB_PRIOR_NO_AI = "BoundMobPriorNoAi";
+
+    // Entity persistent data key for the stasis marker carried by a bound mob
+    private static final String STASIS_MARKER_KEY = "shroud_pedestal_stasis";
+
+    // Stasis marker key for the owning pedestal position
+    private static final String STASIS_MARKER_PEDESTAL = "Pedestal";
+
+    // Stasis marker key for the mob's NoAI state before stasis was applied
+    private static final String STASIS_MARKER_PRIOR_NO_AI = "PriorNoAi";
+
+    // NBT key for serialized entity data of a soul-captured bound mob
+    private static final String TAG_CAPTURED_MOB = "CapturedMob";
+
+    // Entity NBT key holding a saved mob's UUID
+    private static final String TAG_ENTITY_UUID = "UUID";
+
+    // Ticks to wait before retrying a failed captured mob re-materialization from the tick loop
+    private static final int REMATERIALIZE_RETRY_TICKS = 100;
+
     // Y offset where bound mobs are held above pedestal top
-    private static final double HOLD_Y_OFFSET = 1.01D;
+    public static final double HOLD_Y_OFFSET = 1.01D;
+
+    // Squared distance from the hold point a bound mob may drift before it is re-anchored
+    private static final double HOLD_DRIFT_EPSILON_SQR = 0.0025D;
 
     // Minimum change threshold before health sync updates are pushed
     private static final float HEALTH_SYNC_EPSILON = 0.01F;
 
+    // Minimum ticks between health telemetry payloads from one pedestal
+    private static final int HEALTH_SYNC_INTERVAL_TICKS = 5;
+
     // Runtime cached UUID of the bound mob
     @Nullable
     private UUID boundMobUuid = null;
@@ -76,6 +115,30 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
     // Ritual lock scaffold for future integration
     private boolean ritualLocked = false;
 
+    // NoAI state of the bound mob before stasis, restored on release
+    private boolean boundMobPriorNoAi = false;
+
+    // Serialized entity data while the bound mob is soul-captured, otherwise null
+    @Nullable
+    private CompoundTag capturedMobData = null;
+
+    // Earliest game time the tick loop may retry re-materializing a captured mob
+    private long nextRematerializeTick = 0L;
+
+    // True when health telemetry changed since the last health payload
+    private boolean healthSyncPending = false;
+
+    // Game tick at or after which the next health payload may be sent
+    private long nextHealthSyncTick = 0L;
+
+    // Runtime handle to the bound entity, dropped once the entity is removed from its level
+    @Nullable
+    private Entity cachedBoundEntity = null;
+
+    // Runtime entity type matching boundMobTypeId, used to skip registry lookups per tick
+    @Nullable
+    private EntityType<?> cachedBoundMobType = null;
+
     // ==================================
     //  CONSTRUCTOR
     // ==================================
@@ -85,6 +148,30 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
         super(ModBlockEntities.BINDING_PEDESTAL.get(), pos, state);
     }
 
+    // ==================================
+    //  LIFECYCLE
+    // ==================================
+
+    // Registers this pedestal in the per-level pedestal registry when loaded or placed
+    @Override
+    public void onLoad() {
+        super.onLoad();
+
+        if (level instanceof ServerLevel serverLevel) {
+            BindingPedestalRegistry.register(serverLevel, worldPosition);
+        }
+    }
+
+    // Unregisters this pedestal when removed or unloaded with its chunk
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+
+        if (level instanceof ServerLevel serverLevel) {
+            BindingPedestalRegistry.unregister(serverLevel, worldPosition);
+        }
+    }
+
     // ==================================
     //  BINDING API
     // ==================================
@@ -102,7 +189,12 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
         if (!mob.isAlive() || mob.isRemoved()) return false;
 
         this.boundMobUuid = mob.getUUID();
+        this.cachedBoundEntity = mob;
+        this.boundMobPriorNoAi = mob.isNoAi();
+        applyStasis(mob, worldPosition);
+        anchorMobOnPedestal(mob);
         snapshotBoundEntity(mob);
+        markRitualStateChanged();
         markChangedAndSync();
         return true;
     }
@@ -117,19 +209,66 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
             return;
         }
 
+        // Keeps the binding captured when the mob cannot be spawned back so its data is not lost
+        if (capturedMobData != null) {
+            if (rematerializeCapturedMob() == null) return;
+        } else {
+            restoreBoundMobAi();
+        }
+
         this.boundMobUuid = null;
+        this.cachedBoundEntity = null;
+        this.cachedBoundMobType = null;
         this.boundMobTypeId = "";
         this.lastKnownEntityId = -1;
         this.lastKnownHealth = 0.0F;
         this.lastKnownMaxHealth = 0.0F;
+        this.boundMobPriorNoAi = false;
+        markRitualStateChanged();
         markChangedAndSync();
     }
 
+    // Releases the bound mob before this pedestal is removed, never discarding a captured mob silently
+    public void releaseBoundMobForRemoval() {
+        if (capturedMobData != null && rematerializeCapturedMob() == null) {
+            // Retries under a fresh UUID since a UUID already present in the level is the usual refusal
+            CompoundTag retryData = capturedMobData.copy();
+            retryData.remove(TAG_ENTITY_UUID);
+
+            if (spawnCapturedMob(retryData) == null) {
+                Shroud.LOGGER.error("Soul-captured mob {} at {} could not be re-materialized and was lost: {}",
+                        boundMobTypeId, worldPosition, capturedMobData);
+            }
+
+            this.capturedMobData = null;
+        }
+
+        releaseBoundMob();
+    }
+
     // Returns true when this pedestal currently has a bound mob UUID
     public boolean hasBoundMob() {
         return boundMobUuid != null;
     }
 
+    // Returns true when the given entity UUID is the mob bound to this pedestal
+    public boolean isBoundTo(UUID entityUuid) {
+        return entityUuid.equals(boundMobUuid);
+    }
+
+    // Returns true when the bound mob is soul-captured in this pedestal
+    public boolean isBoundMobCaptured() {
+        return capturedMobData != null;
+    }
+
+    // Returns true when the bound mob is captured or still alive in the level, releasing a lost binding
+    public boolean isBoundMobPresent(ServerLevel serverLevel) {
+        if (boundMobUuid == null) return false;
+        if (capturedMobData != null) return true;
+
+        return getBoundLivingMob(serverLevel) != null;
+    }
+
     // Returns last known bound mob type id string
     public String getBoundMobTypeId() {
         return boundMobTypeId;
@@ -169,6 +308,7 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
         if (boundMobUuid == null) return null;
 
         Entity entity = resolveBoundEntity(serverLevel);
+        if (entity == null && !areEntitiesLoaded(serverLevel)) return null;
         if (!(entity instanceof LivingEntity living) || !living.isAlive() || living.isRemoved()) {
             releaseBoundMob();
             return null;
@@ -184,15 +324,24 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
         if (!(level instanceof ServerLevel serverLevel)) return false;
         if (boundMobUuid == null) return false;
 
+        // Re-materializes a soul-captured mob so the ritual damages a real entity
+        if (capturedMobData != null) {
+            Mob mob = rematerializeCapturedMob();
+            if (mob == null) return false;
+            applyStasis(mob, worldPosition);
+        }
+
         Entity entity = resolveBoundEntity(serverLevel);
+        if (entity == null && !areEntitiesLoaded(serverLevel)) return false;
         if (!(entity instanceof LivingEntity living) || !living.isAlive() || living.isRemoved()) {
             releaseBoundMob();
             return false;
         }
 
         boolean hurt = living.hurt(serverLevel.damageSources().generic(), amount);
-        snapshotBoundEntity(living);
-        markChangedAndSync();
+        if (snapshotBoundEntity(living)) {
+            markChangedAndSync();
+        }
 
         if (!hurt) {
             return false;
@@ -210,21 +359,53 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
     //  TICK
     // ==================================
 
-    // Server-side pedestal tick that keeps a bound mob held at the pedestal top
+    // Server-side pedestal tick that holds the bound mob then flushes throttled health telemetry
     public void serverTick() {
         if (!(level instanceof ServerLevel serverLevel)) return;
+
+        tickBoundMob(serverLevel);
+        flushHealthSync(serverLevel);
+    }
+
+    // Keeps a bound mob in stasis at the pedestal top
+    private void tickBoundMob(ServerLevel serverLevel) {
         if (boundMobUuid == null) return;
 
+        // A captured mob has nothing to simulate unless soul capture was turned off since
+        if (capturedMobData != null) {
+            if (Config.PEDESTAL_SOUL_CAPTURE.get()) return;
+            if (serverLevel.getGameTime() < nextRematerializeTick) return;
+
+            Mob mob = rematerializeCapturedMob();
+            if (mob != null) {
+                applyStasis(mob, worldPosition);
+            } else {
+                nextRematerializeTick = serverLevel.getGameTime() + REMATERIALIZE_RETRY_TICKS;
+            }
+            return;
+        }
+
+        // Waits for the chunk's entities to load asynchronously before treating the mob as lost
         Entity entity = resolveBoundEntity(serverLevel);
+        if (entity == null && !areEntitiesLoaded(serverLevel)) return;
         if (!(entity instanceof Mob mob) || !mob.isAlive() || mob.isRemoved()) {
             releaseBoundMob();
             return;
         }
 
-        holdMobOnPedestal(mob);
+        if (!ritualLocked && Config.PEDESTAL_SOUL_CAPTURE.get() && captureBoundMob(mob)) {
+            return;
+        }
+
+        if (!mob.isNoAi()) {
+            applyStasis(mob, worldPosition);
+        }
+        if (hasDriftedFromPedestal(mob)) {
+            anchorMobOnPedestal(mob);
+        }
 
-        boolean snapshotChanged = snapshotBoundEntity(mob);
-        if (snapshotChanged) {
+        boolean bindingChanged = snapshotBoundEntity(mob);
+        if (bindingChanged) {
             markChangedAndSync();
         }
     }
@@ -233,6 +414,29 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
     //  NETWORK SYNC
     // ==================================
 
+    // Sends pending health telemetry at most once per sync interval
+    private void flushHealthSync(ServerLevel serverLevel) {
+        if (!healthSyncPending) return;
+
+        long gameTime = serverLevel.getGameTime();
+        if (gameTime < nextHealthSyncTick) return;
+
+        PacketDistributor.sendToPlayersTrackingChunk(
+                serverLevel,
+                new ChunkPos(worldPosition),
+                new PedestalHealthSyncPayload(worldPosition, lastKnownHealth, lastKnownMaxHealth)
+        );
+
+        healthSyncPending = false;
+        nextHealthSyncTick = gameTime + HEALTH_SYNC_INTERVAL_TICKS;
+    }
+
+    // Applies synced health telemetry on the client
+    public void applyHealthSync(float health, float maxHealth) {
+        this.lastKnownHealth = health;
+        this.lastKnownMaxHealth = maxHealth;
+    }
+
     // Sends block entity update packets to clients for visible state refresh
     @Nullable
     @Override
@@ -272,6 +476,11 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
         tag.putFloat(TAG_LAST_KNOWN_HEALTH, lastKnownHealth);
         tag.putFloat(TAG_LAST_KNOWN_MAX_HEALTH, lastKnownMaxHealth);
         tag.putBoolean(TAG_RITUAL_LOCKED, ritualLocked);
+        tag.putBoolean(TAG_BOUND_MOB_PRIOR_NO_AI, boundMobPriorNoAi);
+
+        if (capturedMobData != null) {
+            tag.put(TAG_CAPTURED_MOB, capturedMobData.copy());
+        }
     }
 
     // Loads pedestal state and bound mob snapshot metadata
@@ -280,23 +489,76 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
         super.loadAdditional(tag, registries);
 
         this.boundMobUuid = tag.hasUUID(TAG_BOUND_MOB_UUID) ? tag.getUUID(TAG_BOUND_MOB_UUID) : null;
+        this.cachedBoundEntity = null;
+        this.cachedBoundMobType = null;
         this.boundMobTypeId = tag.getString(TAG_BOUND_MOB_TYPE_ID);
         this.lastKnownEntityId = tag.contains(TAG_LAST_KNOWN_ENTITY_ID) ? tag.getInt(TAG_LAST_KNOWN_ENTITY_ID) : -1;
         this.lastKnownHealth = tag.contains(TAG_LAST_KNOWN_HEALTH) ? tag.getFloat(TAG_LAST_KNOWN_HEALTH) : 0.0F;
         this.lastKnownMaxHealth = tag.contains(TAG_LAST_KNOWN_MAX_HEALTH) ? tag.getFloat(TAG_LAST_KNOWN_MAX_HEALTH) : 0.0F;
         this.ritualLocked = tag.getBoolean(TAG_RITUAL_LOCKED);
+        this.boundMobPriorNoAi = tag.getBoolean(TAG_BOUND_MOB_PRIOR_NO_AI);
+        this.capturedMobData = tag.contains(TAG_CAPTURED_MOB, Tag.TAG_COMPOUND) ? tag.getCompound(TAG_CAPTURED_MOB) : null;
+    }
+
+    // ==================================
+    //  STASIS MARKER
+    // ==================================
+
+    // Suspends a mob's AI and records its owning pedestal and prior NoAI state on the mob itself
+    private static void applyStasis(Mob mob, BlockPos pedestalPos) {
+        CompoundTag persistentData = mob.getPersistentData();
+        if (!persistentData.contains(STASIS_MARKER_KEY)) {
+            CompoundTag marker = new CompoundTag();
+            marker.putLong(STASIS_MARKER_PEDESTAL, pedestalPos.asLong());
+            marker.putBoolean(STASIS_MARKER_PRIOR_NO_AI, mob.isNoAi());
+            persistentData.put(STASIS_MARKER_KEY, marker);
+        }
+
+        mob.setNoAi(true);
+    }
+
+    // Restores a mob's pre-stasis AI state from its own marker and removes the marker
+    public static void clearStasis(Mob mob, boolean fallbackPriorNoAi) {
+        CompoundTag persistentData = mob.getPersistentData();
+        boolean priorNoAi = persistentData.contains(STASIS_MARKER_KEY)
+                ? persistentData.getCompound(STASIS_MARKER_KEY).getBoolean(STASIS_MARKER_PRIOR_NO_AI)
+                : fallbackPriorNoAi;
+
+        persistentData.remove(STASIS_MARKER_KEY);
+        mob.setNoAi(priorNoAi);
+    }
+
+    // Returns the pedestal position recorded in a mob's stasis marker, or null when it has none
+    @Nullable
+    public static BlockPos getStasisPedestal(Mob mob) {
+        CompoundTag persistentData = mob.getPersistentData();
+        if (!persistentData.contains(STASIS_MARKER_KEY)) return null;
+
+        return BlockPos.of(persistentData.getCompound(STASIS_MARKER_KEY).getLong(STASIS_MARKER_PEDESTAL));
     }
 
     // ==================================
     //  INTERNAL HELPERS
     // ==================================
 
-    // Resolves the currently bound entity from cached id or UUID lookup
+    // Returns true when this pedestal chunk's entity section has finished loading
+    private boolean areEntitiesLoaded(ServerLevel serverLevel) {
+        return serverLevel.areEntitiesLoaded(ChunkPos.asLong(worldPosition));
+    }
+
+    // Resolves the currently bound entity from the cached handle, falling back to id or UUID lookup
     @Nullable
     private Entity resolveBoundEntity(ServerLevel serverLevel) {
+        Entity cached = cachedBoundEntity;
+        if (cached != null && !cached.isRemoved() && cached.level() == serverLevel) {
+            return cached;
+        }
+        cachedBoundEntity = null;
+
         if (lastKnownEntityId != -1) {
             Entity byId = serverLevel.getEntity(lastKnownEntityId);
             if (byId != null && byId.getUUID().equals(boundMobUuid)) {
+                cachedBoundEntity = byId;
                 return byId;
             }
         }
@@ -304,13 +566,23 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
         Entity byUuid = serverLevel.getEntity(boundMobUuid);
         if (byUuid != null) {
             lastKnownEntityId = byUuid.getId();
+            cachedBoundEntity = byUuid;
         }
 
         return byUuid;
     }
 
-    // Keeps the bound mob centered and stabilized on top of this pedestal
-    private void holdMobOnPedestal(Mob mob) {
+    // Returns true when the bound mob has moved away from the pedestal hold point
+    private boolean hasDriftedFromPedestal(Mob mob) {
+        return mob.distanceToSqr(
+                worldPosition.getX() + 0.5D,
+                worldPosition.getY() + HOLD_Y_OFFSET,
+                worldPosition.getZ() + 0.5D
+        ) > HOLD_DRIFT_EPSILON_SQR;
+    }
+
+    // Centers and stabilizes the bound mob on top of this pedestal
+    private void anchorMobOnPedestal(Mob mob) {
         double targetX = worldPosition.getX() + 0.5D;
         double targetY = worldPosition.getY() + HOLD_Y_OFFSET;
         double targetZ = worldPosition.getZ() + 0.5D;
@@ -320,37 +592,120 @@ public class ModBindingPedestalBlockEntity extends net.minecraft.world.level.blo
         mob.fallDistance = 0.0F;
     }
 
-    // Updates stored mob type id and health snapshot and returns true when values changed
+    // Serializes the bound mob into this pedestal and removes it from the level, returning true on success
+    private boolean captureBoundMob(Mob mob) {
+        if (mob.isPassenger() || mob.isVehicle() || mob.isLeashed()) return false;
+
+        snapshotBoundEntity(mob);
+
+        // Saves with the mob's own AI state and no stasis marker so it re-materializes exactly as it was bound
+        clearStasis(mob, boundMobPriorNoAi);
+        CompoundTag data = new CompoundTag();
+        if (!mob.save(data)) {
+            applyStasis(mob, worldPosition);
+            return false;
+        }
+
+        this.capturedMobData = data;
+        this.lastKnownEntityId = -1;
+        this.cachedBoundEntity = null;
+        mob.discard();
+        markChangedAndSync();
+        return true;
+    }
+
+    // Spawns a soul-captured mob back onto this pedestal, clearing the captured data only once it is in the level
+    @Nullable
+    private Mob rematerializeCapturedMob() {
+        CompoundTag data = capturedMobData;
+        if (data == null) return null;
+
+        Mob mob = spawnCapturedMob(data);
+        if (mob == null) {
+            Shroud.LOGGER.warn("Failed to re-materialize captured mob {} at {}, keeping it captured", boundMobTypeId, worldPosition);
+            return null;
+        }
+
+        this.capturedMobData = null;
+        markChangedAndSync();
+
+        this.lastKnownEntityId = mob.getId();
+        this.cachedBoundEntity = mob;
+        return mob;
+    }
+
+    // Loads serialized mob data at the pedestal hold point and adds it to the level, returning null on failure
+    @Nullable
+    private Mob spawnCapturedMob(CompoundTag data) {
+        if (!(level instanceof ServerLevel serverLevel)) return null;
+
+        double targetX = worldPosition.getX() + 0.5D;
+        double targetY = worldPosition.getY() + HOLD_Y_OFFSET;
+        double targetZ = worldPosition.getZ() + 0.5D;
+
+        Entity entity = EntityType.loadEntityRecursive(data, serverLevel, loaded -> {
+            loaded.moveTo(targetX, targetY, targetZ, loaded.getYRot(), loaded.getXRot());
+            return loaded;
+        });
+
+        if (!(entity instanceof Mob mob) || !serverLevel.addFreshEntity(mob)) return null;
+        return mob;
+    }
+
+    // Restores the bound mob's original AI state when it is still present
+    private void restoreBoundMobAi() {
+        if (boundMobUuid == null) return;
+        if (!(level instanceof ServerLevel serverLevel)) return;
+
+        // A mob that cannot be resolved now restores itself from its stasis marker when it loads
+        if (resolveBoundEntity(serverLevel) instanceof Mob mob) {
+            clearStasis(mob, boundMobPriorNoAi);
+        }
+    }
+
+    // Updates stored mob type id and health snapshot and returns true when the binding itself changed
     private boolean snapshotBoundEntity(LivingEntity livingEntity) {
         boolean changed = false;
 
-        String typeId = BuiltInRegistries.ENTITY_TYPE.getKey(livingEntity.getType()).toString();
-        if (!typeId.equals(this.boundMobTypeId)) {
-            this.boundMobTypeId = typeId;
-            changed = true;
-        }
+        // Builds the registry id string only when the entity type differs from the cached one
+        EntityType<?> type = livingEntity.getType();
+        if (type != this.cachedBoundMobType) {
+            this.cachedBoundMobType = type;
 
-        int entityId = livingEntity.getId();
-        if (entityId != this.lastKnownEntityId) {
-            this.lastKnownEntityId = entityId;
-            changed = true;
+            String typeId = BuiltInRegistries.ENTITY_TYPE.getKey(type).toString();
+            if (!typeId.equals(this.boundMobTypeId)) {
+                this.boundMobTypeId = typeId;
+                markRitualStateChanged();
+                changed = true;
+            }
         }
 
+        // Runtime entity ids are lookup hints only and never dirty the chunk
+        this.lastKnownEntityId = livingEntity.getId();
+
+        // Health changes travel through throttled telemetry instead of block entity updates
         float health = livingEntity.getHealth();
         if (Math.abs(health - this.lastKnownHealth) > HEALTH_SYNC_EPSILON) {
             this.lastKnownHealth = health;
-            changed = true;
+            this.healthSyncPending = true;
         }
 
         float maxHealth = livingEntity.getMaxHealth();
         if (Math.abs(maxHealth - this.lastKnownMaxHealth) > HEALTH_SYNC_EPSILON) {
             this.lastKnownMaxHealth = maxHealth;
-            changed = true;
+            this.healthSyncPending = true;
         }
 
         return changed;
     }
 
+    // Bumps the level pedestal revision so cached ritual matches see this pedestal's new binding
+    private void markRitualStateChanged() {
+        if (level instanceof ServerLevel serverLevel) {
+            BindingPedestalRegistry.markPedestalChanged(serverLevel);
+        }
+    }
+
     // Marks block entity dirty and pushes client updates
     private void markChangedAndSync() {
         super.setChanged();
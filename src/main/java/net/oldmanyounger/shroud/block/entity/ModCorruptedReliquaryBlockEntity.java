@@ -1,6 +1,9 @@
 package net.oldmanyounger.shroud.block.entity;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
@@ -8,28 +11,46 @@ import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.world.ContainerHelper;
 import net.minecraft.world.WorldlyContainer;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.network.PacketDistributor;
+import net.oldmanyounger.shroud.network.payload.ReliquarySlotSyncPayload;
+import net.oldmanyounger.shroud.ritual.RitualItemMatcher;
+import net.oldmanyounger.shroud.ritual.RitualPhaseVisuals;
 import net.oldmanyounger.shroud.ritual.recipe.RitualRecipe;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Core persistent state holder for the Corrupted Reliquary block.
  *
  * <p>This block entity owns the reliquary's one-item-slot inventory model and exposes
- * focused methods for manual insertion, dropped-item insertion, LIFO removal, recipe
+ * focused methods for manual insertion, throttled dropped-item intake, LIFO removal, recipe
  * requirement consumption, and automation-facing insertion-only container behavior.
  * It intentionally avoids ritual execution logic so the block can be validated independently.
+ * Every slot write goes through one helper that keeps a 32-bit occupancy mask and an item-kind
+ * histogram current, so emptiness, free-slot, and count queries never walk the inventory.
+ * Mutations mark the touched slots and flags dirty, and the server ticker flushes them as a single
+ * slot-delta payload per tick; full NBT sync is left to chunk loading.
  *
  * <p>In the broader context of the project, this class is the foundation of ritual item intake,
  * serving as the canonical source of reliquary contents that ritual validation and activation
@@ -62,6 +83,21 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
     // NBT key for ritual visual duration ticks
     private static final String TAG_RITUAL_VISUAL_DURATION_TICKS = "RitualVisualDurationTicks";
 
+    // NBT key for participating pedestal positions used by client ritual particles
+    private static final String TAG_RITUAL_VISUAL_PEDESTALS = "RitualVisualPedestals";
+
+    // Ticks between dropped-item intake sweeps
+    private static final int ITEM_INTAKE_INTERVAL_TICKS = 4;
+
+    // Lowest item height above the block origin that counts as resting on top
+    private static final double ITEM_INTAKE_MIN_Y_OFFSET = 0.55D;
+
+    // Highest item height above the block origin swept for intake
+    private static final double ITEM_INTAKE_MAX_Y_OFFSET = 1.25D;
+
+    // Slot mask covering every reliquary slot
+    private static final int ALL_SLOTS_MASK = -1;
+
     // All slot indexes exposed for insertion checks by automation
     private static final int[] AUTOMATION_SLOTS = buildAutomationSlots();
 
@@ -71,6 +107,21 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
     // Insertion order stack used for shift-right-click LIFO removal
     private final IntArrayList insertionOrder = new IntArrayList();
 
+    // Insertion-only automation handler backed by this reliquary
+    private final ReliquaryInsertionHandler insertionHandler = new ReliquaryInsertionHandler(this);
+
+    // Capability caches for neighboring item handlers used by ritual output routing
+    private final Map<Direction, BlockCapabilityCache<IItemHandler, Direction>> adjacentItemHandlers = new EnumMap<>(Direction.class);
+
+    // Bit per slot that is set while the slot holds an item
+    private int occupiedMask = 0;
+
+    // Stored unit count per item kind kept in step with slot contents
+    private final Object2IntOpenHashMap<Item> itemKindCounts = new Object2IntOpenHashMap<>();
+
+    // Total stored item units across all slots
+    private int totalItemCount = 0;
+
     // Runtime lock state placeholder for future ritual integration
     private boolean ritualLocked = false;
 
@@ -86,6 +137,21 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
     // Runtime ritual visual duration in ticks
     private int ritualVisualDurationTicks = 0;
 
+    // Participating pedestal positions for client-side ritual particle synthesis
+    private List<BlockPos> ritualVisualPedestals = List.of();
+
+    // Ticks remaining until the next dropped-item intake sweep
+    private int itemIntakeCooldown = 0;
+
+    // Slots changed since the last client sync flush
+    private int dirtySyncSlots = 0;
+
+    // True when revision or lock state changed since the last client sync flush
+    private boolean flagSyncPending = false;
+
+    // True when ritual visual state changed since the last client sync flush
+    private boolean visualSyncPending = false;
+
     // ==================================
     //  CONSTRUCTOR
     // ==================================
@@ -101,37 +167,70 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
 
     // Tries to insert exactly one item from the given stack
     public boolean tryInsertSingle(ItemStack sourceStack) {
-        if (sourceStack.isEmpty()) return false;
-        if (ritualLocked) return false;
-        if (isBlockedInsertItem(sourceStack)) return false;
-
-        int slot = findFirstEmptySlot();
-        if (slot < 0) return false;
-
-        ItemStack inserted = sourceStack.copyWithCount(1);
-        items.set(slot, inserted);
-        insertionOrder.add(slot);
-        markChangedAndSync(true);
-        return true;
+        return insertUpTo(sourceStack, 1) > 0;
     }
 
     // Tries to insert as many items as possible from the given stack
     public int tryInsertAsMany(ItemStack sourceStack) {
-        if (sourceStack.isEmpty()) return 0;
+        int inserted = insertUpTo(sourceStack, sourceStack.getCount());
+        sourceStack.shrink(inserted);
+        return inserted;
+    }
+
+    // Inserts up to maxCount single items into free slots in one pass without shrinking the source
+    public int insertUpTo(ItemStack sourceStack, int maxCount) {
+        if (sourceStack.isEmpty() || maxCount <= 0) return 0;
         if (ritualLocked) return 0;
+        if (isBlockedInsertItem(sourceStack)) return 0;
 
-        int inserted = 0;
-        while (!sourceStack.isEmpty()) {
-            boolean ok = tryInsertSingle(sourceStack);
-            if (!ok) {
-                break;
-            }
+        int toInsert = Math.min(Math.min(maxCount, sourceStack.getCount()), getFreeSlotCount());
+        if (toInsert <= 0) return 0;
 
-            sourceStack.shrink(1);
-            inserted++;
+        int freeMask = ~occupiedMask;
+        for (int i = 0; i < toInsert; i++) {
+            int slot = Integer.numberOfTrailingZeros(freeMask);
+            freeMask &= freeMask - 1;
+
+            setSlot(slot, sourceStack.copyWithCount(1));
+            insertionOrder.add(slot);
         }
 
-        return inserted;
+        markChangedAndSync(true);
+        return toInsert;
+    }
+
+    // ==================================
+    //  ITEM ENTITY INTAKE
+    // ==================================
+
+    // Sweeps dropped items resting on top of the reliquary at a fixed interval while it can accept them
+    private void tickItemIntake(ServerLevel serverLevel) {
+        if (--itemIntakeCooldown > 0) return;
+        itemIntakeCooldown = ITEM_INTAKE_INTERVAL_TICKS;
+
+        if (!canAcceptInsert()) return;
+
+        AABB intakeArea = new AABB(
+                worldPosition.getX(), worldPosition.getY() + ITEM_INTAKE_MIN_Y_OFFSET, worldPosition.getZ(),
+                worldPosition.getX() + 1.0D, worldPosition.getY() + ITEM_INTAKE_MAX_Y_OFFSET, worldPosition.getZ() + 1.0D
+        );
+
+        List<ItemEntity> itemEntities = serverLevel.getEntitiesOfClass(ItemEntity.class, intakeArea,
+                itemEntity -> itemEntity.isAlive() && !itemEntity.getItem().isEmpty());
+
+        for (ItemEntity itemEntity : itemEntities) {
+            // Shrinks a copy so setItem sees a new instance and syncs the reduced count to clients
+            ItemStack stack = itemEntity.getItem().copy();
+            if (tryInsertAsMany(stack) <= 0) continue;
+
+            if (stack.isEmpty()) {
+                itemEntity.discard();
+            } else {
+                itemEntity.setItem(stack);
+            }
+
+            if (!canAcceptInsert()) return;
+        }
     }
 
     // Returns true if an insert is currently allowed
@@ -140,6 +239,32 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         return findFirstEmptySlot() >= 0;
     }
 
+    // Returns true if at least one item of the stack can currently be inserted
+    public boolean canInsert(ItemStack stack) {
+        return !stack.isEmpty() && canAcceptInsert() && !isBlockedInsertItem(stack);
+    }
+
+    // Returns the number of empty slots
+    public int getFreeSlotCount() {
+        return MAX_SLOTS - getOccupiedSlotCount();
+    }
+
+    // Returns the insertion-only item handler exposed to automation
+    public ReliquaryInsertionHandler getInsertionHandler() {
+        return insertionHandler;
+    }
+
+    // Returns the item handler exposed by the neighbor on the given face through a cached capability lookup
+    @Nullable
+    public IItemHandler getAdjacentItemHandler(ServerLevel serverLevel, Direction direction) {
+        return adjacentItemHandlers.computeIfAbsent(direction, face -> BlockCapabilityCache.create(
+                Capabilities.ItemHandler.BLOCK,
+                serverLevel,
+                worldPosition.relative(face),
+                face.getOpposite()
+        )).getCapability();
+    }
+
     // ==================================
     //  REMOVAL API
     // ==================================
@@ -156,18 +281,18 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
             int slot = insertionOrder.removeInt(insertionOrder.size() - 1);
             ItemStack stack = items.get(slot);
             if (!stack.isEmpty()) {
-                items.set(slot, ItemStack.EMPTY);
+                setSlot(slot, ItemStack.EMPTY);
                 markChangedAndSync(true);
                 return stack;
             }
         }
 
-        // Fallback scan in case insertion order was malformed
-        for (int slot = MAX_SLOTS - 1; slot >= 0; slot--) {
+        // Fallback to the highest occupied slot in case insertion order was malformed
+        if (occupiedMask != 0) {
+            int slot = 31 - Integer.numberOfLeadingZeros(occupiedMask);
             ItemStack stack = items.get(slot);
-            if (stack.isEmpty()) continue;
 
-            items.set(slot, ItemStack.EMPTY);
+            setSlot(slot, ItemStack.EMPTY);
             markChangedAndSync(true);
             return stack;
         }
@@ -186,25 +311,29 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         return items.get(slot);
     }
 
-    // Returns an immutable copy of all reliquary slots for rendering or matching
-    public NonNullList<ItemStack> copyItems() {
-        NonNullList<ItemStack> copy = NonNullList.withSize(MAX_SLOTS, ItemStack.EMPTY);
-        for (int i = 0; i < MAX_SLOTS; i++) {
-            ItemStack stack = items.get(i);
-            copy.set(i, stack.isEmpty() ? ItemStack.EMPTY : stack.copy());
-        }
-        return copy;
+    // Returns a read-only live view of all reliquary slots for matching without copying
+    public List<ItemStack> getItemsView() {
+        return Collections.unmodifiableList(items);
+    }
+
+    // Returns a bitmask where bit n is set when slot n holds an item
+    public int getOccupiedMask() {
+        return occupiedMask;
     }
 
     // Returns the number of occupied slots
     public int getOccupiedSlotCount() {
-        int count = 0;
-        for (ItemStack stack : items) {
-            if (!stack.isEmpty()) {
-                count++;
-            }
-        }
-        return count;
+        return Integer.bitCount(occupiedMask);
+    }
+
+    // Returns total stored item units across all slots
+    public int getTotalItemCount() {
+        return totalItemCount;
+    }
+
+    // Returns a read-only live view of stored unit counts per item kind
+    public Object2IntMap<Item> getItemKindCountsView() {
+        return Object2IntMaps.unmodifiable(itemKindCounts);
     }
 
     // Returns current inventory revision number
@@ -233,10 +362,12 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
     // ==================================
 
     // Starts ritual visual animation tracking
-    public void startRitualVisual(long startGameTick, int durationTicks) {
+    public void startRitualVisual(long startGameTick, int durationTicks, List<BlockPos> pedestalPositions) {
         this.ritualVisualActive = true;
         this.ritualVisualStartTick = startGameTick;
         this.ritualVisualDurationTicks = Math.max(1, durationTicks);
+        this.ritualVisualPedestals = List.copyOf(pedestalPositions);
+        this.visualSyncPending = true;
         markChangedAndSync(false);
     }
 
@@ -247,6 +378,8 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         this.ritualVisualActive = false;
         this.ritualVisualStartTick = 0L;
         this.ritualVisualDurationTicks = 0;
+        this.ritualVisualPedestals = List.of();
+        this.visualSyncPending = true;
         markChangedAndSync(false);
     }
 
@@ -265,37 +398,45 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         return Mth.clamp(elapsed / (float) ritualVisualDurationTicks, 0.0F, 1.0F);
     }
 
+    // Client-side reliquary tick that spawns ritual phase particles from synced visual state
+    public void clientTick() {
+        if (!ritualVisualActive || level == null) return;
+
+        long elapsed = level.getGameTime() - ritualVisualStartTick;
+        if (elapsed < 1L || elapsed > ritualVisualDurationTicks) return;
+
+        RitualPhaseVisuals.emitProgressParticles(
+                level,
+                worldPosition,
+                ritualVisualPedestals,
+                ModBindingPedestalBlockEntity.HOLD_Y_OFFSET,
+                (int) elapsed,
+                ritualVisualDurationTicks
+        );
+    }
+
     // ==================================
     //  REQUIREMENT CONSUMPTION
     // ==================================
 
-    // Consumes one item unit per expanded requirement selector and returns true on full success
+    // Consumes one item unit per counted requirement and returns true on full success
     public boolean consumeRequirements(List<RitualRecipe.ItemRequirement> requirements) {
-        List<RitualRecipe.ItemRequirement> expanded = new ArrayList<>();
-        for (RitualRecipe.ItemRequirement req : requirements) {
-            int count = Math.max(1, req.count());
-            for (int i = 0; i < count; i++) {
-                expanded.add(req);
-            }
+        Optional<RitualItemMatcher.ItemAssignment> assignment = RitualItemMatcher.assign(requirements, items, false);
+        if (assignment.isEmpty()) {
+            return false;
         }
 
-        int[] matchedSlots = new int[expanded.size()];
-        Arrays.fill(matchedSlots, -1);
+        applyConsumption(assignment.get());
+        return true;
+    }
 
-        boolean[] usedSlots = new boolean[MAX_SLOTS];
-        boolean ok = matchRequirementRecursive(expanded, 0, usedSlots, matchedSlots);
-        if (!ok) {
+    // Consumes a precomputed slot assignment when inventory is unchanged since it was computed
+    public boolean consumeAssignedSlots(RitualItemMatcher.ItemAssignment assignment, int expectedRevision) {
+        if (inventoryRevision != expectedRevision) {
             return false;
         }
 
-        for (int slot : matchedSlots) {
-            if (slot >= 0 && slot < MAX_SLOTS) {
-                items.set(slot, ItemStack.EMPTY);
-            }
-        }
-
-        pruneInsertionOrderToExistingItems();
-        markChangedAndSync(true);
+        applyConsumption(assignment);
         return true;
     }
 
@@ -303,7 +444,61 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
     //  NETWORK SYNC
     // ==================================
 
-    // Sends block entity update packets to clients for renderer-visible state updates
+    // Server-side reliquary tick that runs throttled item intake then flushes pending sync state
+    public void serverTick() {
+        if (!(level instanceof ServerLevel serverLevel)) return;
+
+        tickItemIntake(serverLevel);
+        flushSlotSync(serverLevel);
+    }
+
+    // Sends pending slot and flag changes as one payload
+    private void flushSlotSync(ServerLevel serverLevel) {
+        if (dirtySyncSlots == 0 && !flagSyncPending && !visualSyncPending) return;
+
+        PacketDistributor.sendToPlayersTrackingChunk(serverLevel, new ChunkPos(worldPosition), createSlotSyncPayload());
+
+        dirtySyncSlots = 0;
+        flagSyncPending = false;
+        visualSyncPending = false;
+    }
+
+    // Builds a slot-delta payload from pending dirty slots and flags
+    private ReliquarySlotSyncPayload createSlotSyncPayload() {
+        List<ItemStack> changedStacks = new ArrayList<>(Integer.bitCount(dirtySyncSlots));
+        for (int mask = dirtySyncSlots; mask != 0; mask &= mask - 1) {
+            changedStacks.add(items.get(Integer.numberOfTrailingZeros(mask)).copy());
+        }
+
+        Optional<ReliquarySlotSyncPayload.RitualVisual> ritualVisual = visualSyncPending
+                ? Optional.of(new ReliquarySlotSyncPayload.RitualVisual(
+                        ritualVisualActive, ritualVisualStartTick, ritualVisualDurationTicks, ritualVisualPedestals))
+                : Optional.empty();
+
+        return new ReliquarySlotSyncPayload(worldPosition, inventoryRevision, ritualLocked, dirtySyncSlots, changedStacks, ritualVisual);
+    }
+
+    // Applies a slot-delta payload on the client
+    public void applySlotSync(ReliquarySlotSyncPayload payload) {
+        int index = 0;
+        for (int mask = payload.changedSlotMask(); mask != 0; mask &= mask - 1) {
+            setSlot(Integer.numberOfTrailingZeros(mask), payload.changedStacks().get(index++));
+        }
+
+        this.inventoryRevision = payload.inventoryRevision();
+        this.ritualLocked = payload.ritualLocked();
+
+        payload.ritualVisual().ifPresent(visual -> {
+            this.ritualVisualActive = visual.active();
+            this.ritualVisualStartTick = visual.startTick();
+            this.ritualVisualDurationTicks = visual.durationTicks();
+            this.ritualVisualPedestals = visual.pedestals();
+        });
+
+        dirtySyncSlots = 0;
+    }
+
+    // Supplies the full-tag packet used when block updates are sent for other reasons
     @Nullable
     @Override
     public ClientboundBlockEntityDataPacket getUpdatePacket() {
@@ -316,13 +511,11 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         CompoundTag tag = pkt.getTag();
         if (tag != null) {
             this.loadAdditional(tag, registries);
-            this.ritualVisualActive = tag.getBoolean(TAG_RITUAL_VISUAL_ACTIVE);
-            this.ritualVisualStartTick = tag.contains(TAG_RITUAL_VISUAL_START_TICK) ? tag.getLong(TAG_RITUAL_VISUAL_START_TICK) : 0L;
-            this.ritualVisualDurationTicks = tag.contains(TAG_RITUAL_VISUAL_DURATION_TICKS) ? tag.getInt(TAG_RITUAL_VISUAL_DURATION_TICKS) : 0;
+            loadRitualVisual(tag);
         }
     }
 
-    // Provides update tag data for client-side block entity synchronization
+    // Provides full update tag data for client-side synchronization on chunk load
     @Override
     public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
         CompoundTag tag = new CompoundTag();
@@ -334,6 +527,20 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
     @Override
     public void handleUpdateTag(CompoundTag tag, HolderLookup.Provider registries) {
         this.loadAdditional(tag, registries);
+        loadRitualVisual(tag);
+    }
+
+    // Applies synced ritual visual state so clients joining mid-ritual also see phase particles
+    private void loadRitualVisual(CompoundTag tag) {
+        this.ritualVisualActive = tag.getBoolean(TAG_RITUAL_VISUAL_ACTIVE);
+        this.ritualVisualStartTick = tag.contains(TAG_RITUAL_VISUAL_START_TICK) ? tag.getLong(TAG_RITUAL_VISUAL_START_TICK) : 0L;
+        this.ritualVisualDurationTicks = tag.contains(TAG_RITUAL_VISUAL_DURATION_TICKS) ? tag.getInt(TAG_RITUAL_VISUAL_DURATION_TICKS) : 0;
+
+        List<BlockPos> pedestals = new ArrayList<>();
+        for (long packed : tag.getLongArray(TAG_RITUAL_VISUAL_PEDESTALS)) {
+            pedestals.add(BlockPos.of(packed));
+        }
+        this.ritualVisualPedestals = List.copyOf(pedestals);
     }
 
     // ==================================
@@ -351,6 +558,7 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         tag.putBoolean(TAG_RITUAL_VISUAL_ACTIVE, this.ritualVisualActive);
         tag.putLong(TAG_RITUAL_VISUAL_START_TICK, this.ritualVisualStartTick);
         tag.putInt(TAG_RITUAL_VISUAL_DURATION_TICKS, this.ritualVisualDurationTicks);
+        tag.putLongArray(TAG_RITUAL_VISUAL_PEDESTALS, this.ritualVisualPedestals.stream().mapToLong(BlockPos::asLong).toArray());
     }
 
     // Loads reliquary inventory and state from NBT
@@ -362,6 +570,7 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         for (int i = 0; i < MAX_SLOTS; i++) {
             this.items.set(i, ItemStack.EMPTY);
         }
+        rebuildOccupancyViews();
 
         // Rebuild insertion order when persisted order is missing or empty but inventory is not empty
         if (this.insertionOrder.isEmpty() && !this.isEmpty()) {
@@ -369,6 +578,7 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         }
 
         ContainerHelper.loadAllItems(tag, this.items, registries);
+        rebuildOccupancyViews();
 
         this.insertionOrder.clear();
         int[] order = tag.getIntArray(TAG_INSERTION_ORDER);
@@ -395,12 +605,7 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
     // Returns true if every slot is empty
     @Override
     public boolean isEmpty() {
-        for (ItemStack stack : items) {
-            if (!stack.isEmpty()) {
-                return false;
-            }
-        }
-        return true;
+        return occupiedMask == 0;
     }
 
     // Removes up to the requested amount from a slot
@@ -413,10 +618,9 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         ItemStack existing = items.get(slot);
         if (existing.isEmpty()) return ItemStack.EMPTY;
 
-        ItemStack taken = existing.split(Math.min(amount, existing.getCount()));
-        if (existing.isEmpty()) {
-            items.set(slot, ItemStack.EMPTY);
-        }
+        ItemStack remaining = existing.copy();
+        ItemStack taken = remaining.split(Math.min(amount, remaining.getCount()));
+        setSlot(slot, remaining);
 
         markChangedAndSync(true);
         return taken;
@@ -429,7 +633,7 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         ItemStack existing = items.get(slot);
         if (existing.isEmpty()) return ItemStack.EMPTY;
 
-        items.set(slot, ItemStack.EMPTY);
+        setSlot(slot, ItemStack.EMPTY);
         bumpInventoryRevision();
         return existing;
     }
@@ -441,7 +645,7 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         if (ritualLocked) return;
 
         if (stack.isEmpty()) {
-            items.set(slot, ItemStack.EMPTY);
+            setSlot(slot, ItemStack.EMPTY);
             markChangedAndSync(true);
             return;
         }
@@ -449,7 +653,7 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         if (isBlockedInsertItem(stack)) return;
 
         ItemStack single = stack.copyWithCount(1);
-        items.set(slot, single);
+        setSlot(slot, single);
         insertionOrder.add(slot);
         markChangedAndSync(true);
     }
@@ -472,7 +676,9 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         for (int i = 0; i < MAX_SLOTS; i++) {
             items.set(i, ItemStack.EMPTY);
         }
+        rebuildOccupancyViews();
         insertionOrder.clear();
+        dirtySyncSlots = ALL_SLOTS_MASK;
         markChangedAndSync(true);
     }
 
@@ -512,36 +718,19 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
     //  INTERNAL HELPERS
     // ==================================
 
-    // Matches expanded selectors to unique occupied reliquary slots
-    private boolean matchRequirementRecursive(List<RitualRecipe.ItemRequirement> expanded,
-                                              int reqIndex,
-                                              boolean[] usedSlots,
-                                              int[] matchedSlots) {
-        if (reqIndex >= expanded.size()) {
-            return true;
-        }
-
-        RitualRecipe.ItemRequirement requirement = expanded.get(reqIndex);
-
+    // Removes assigned units from their slots and syncs the result
+    private void applyConsumption(RitualItemMatcher.ItemAssignment assignment) {
         for (int slot = 0; slot < MAX_SLOTS; slot++) {
-            if (usedSlots[slot]) continue;
+            int consumed = assignment.consumedAt(slot);
+            if (consumed <= 0) continue;
 
-            ItemStack stack = items.get(slot);
-            if (stack.isEmpty()) continue;
-            if (!requirement.matches(stack)) continue;
-
-            usedSlots[slot] = true;
-            matchedSlots[reqIndex] = slot;
-
-            if (matchRequirementRecursive(expanded, reqIndex + 1, usedSlots, matchedSlots)) {
-                return true;
-            }
-
-            usedSlots[slot] = false;
-            matchedSlots[reqIndex] = -1;
+            ItemStack remaining = items.get(slot).copy();
+            remaining.shrink(consumed);
+            setSlot(slot, remaining);
         }
 
-        return false;
+        pruneInsertionOrderToExistingItems();
+        markChangedAndSync(true);
     }
 
     // Removes stale insertion-order entries that now point to empty slots
@@ -559,18 +748,14 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
         insertionOrder.addAll(kept);
     }
 
-    // Marks data dirty and pushes a full client update so renderer state refreshes after inventory changes
+    // Marks data dirty and queues a coalesced client sync for the next server tick
     private void markChangedAndSync(boolean inventoryMutated) {
         if (inventoryMutated) {
             bumpInventoryRevision();
         }
 
         super.setChanged();
-
-        if (level == null || level.isClientSide) return;
-
-        BlockState state = getBlockState();
-        level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
+        flagSyncPending = true;
     }
 
     // Increments inventory revision
@@ -592,12 +777,59 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
 
     // Finds the first empty slot index or -1 if full
     private int findFirstEmptySlot() {
-        for (int i = 0; i < MAX_SLOTS; i++) {
-            if (items.get(i).isEmpty()) {
-                return i;
-            }
+        int slot = Integer.numberOfTrailingZeros(~occupiedMask);
+        return slot < MAX_SLOTS ? slot : -1;
+    }
+
+    // Replaces one slot, keeps the occupancy mask and item-kind histogram in step, and marks it for sync
+    private void setSlot(int slot, ItemStack stack) {
+        untrackStack(items.get(slot));
+        dirtySyncSlots |= 1 << slot;
+
+        ItemStack stored = stack.isEmpty() ? ItemStack.EMPTY : stack;
+        items.set(slot, stored);
+
+        if (stored.isEmpty()) {
+            occupiedMask &= ~(1 << slot);
+        } else {
+            occupiedMask |= 1 << slot;
+            trackStack(stored);
+        }
+    }
+
+    // Adds a stack to the item-kind histogram
+    private void trackStack(ItemStack stack) {
+        if (stack.isEmpty()) return;
+
+        itemKindCounts.addTo(stack.getItem(), stack.getCount());
+        totalItemCount += stack.getCount();
+    }
+
+    // Removes a stack from the item-kind histogram
+    private void untrackStack(ItemStack stack) {
+        if (stack.isEmpty()) return;
+
+        Item item = stack.getItem();
+        int remaining = itemKindCounts.addTo(item, -stack.getCount()) - stack.getCount();
+        if (remaining <= 0) {
+            itemKindCounts.removeInt(item);
+        }
+        totalItemCount -= stack.getCount();
+    }
+
+    // Recomputes the occupancy mask and item-kind histogram from slot contents
+    private void rebuildOccupancyViews() {
+        occupiedMask = 0;
+        itemKindCounts.clear();
+        totalItemCount = 0;
+
+        for (int slot = 0; slot < MAX_SLOTS; slot++) {
+            ItemStack stack = items.get(slot);
+            if (stack.isEmpty()) continue;
+
+            occupiedMask |= 1 << slot;
+            trackStack(stack);
         }
-        return -1;
     }
 
     // Returns true when a stack is disallowed from reliquary insertion
@@ -613,10 +845,8 @@ public class ModCorruptedReliquaryBlockEntity extends net.minecraft.world.level.
     // Rebuilds insertion order from currently occupied slots
     private void rebuildInsertionOrderFromOccupiedSlots() {
         insertionOrder.clear();
-        for (int slot = 0; slot < MAX_SLOTS; slot++) {
-            if (!items.get(slot).isEmpty()) {
-                insertionOrder.add(slot);
-            }
+        for (int mask = occupiedMask; mask != 0; mask &= mask - 1) {
+            insertionOrder.add(Integer.numberOfTrailingZeros(mask));
         }
     }
 }
\ No newline at end of file
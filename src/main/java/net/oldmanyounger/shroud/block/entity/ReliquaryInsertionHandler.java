@@ -0,0 +1,81 @@
+package net.oldmanyounger.shroud.block.entity;
+
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.items.IItemHandler;
+
+/**
+ * Insertion-only item handler that exposes a Corrupted Reliquary as one virtual slot.
+ *
+ * <p>The virtual slot always reads as empty so automation keeps offering items, and each insert
+ * is routed straight to the reliquary's next free slots through its occupancy mask. Full, locked,
+ * and blocked-item checks are constant time, so hoppers and pipes never probe the 32 backing slots
+ * one by one. Extraction is always refused.
+ *
+ * <p>In the broader context of the project, this class is the automation-facing intake for ritual
+ * inputs, registered as the reliquary's item handler block capability.
+ */
+public class ReliquaryInsertionHandler implements IItemHandler {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Reliquary that receives inserted items
+    private final ModCorruptedReliquaryBlockEntity reliquary;
+
+    // ==================================
+    //  CONSTRUCTOR
+    // ==================================
+
+    // Creates an insertion handler for one reliquary
+    public ReliquaryInsertionHandler(ModCorruptedReliquaryBlockEntity reliquary) {
+        this.reliquary = reliquary;
+    }
+
+    // ==================================
+    //  ITEM HANDLER
+    // ==================================
+
+    // Exposes a single virtual insertion slot
+    @Override
+    public int getSlots() {
+        return 1;
+    }
+
+    // Reports the virtual slot as empty so automation always offers items
+    @Override
+    public ItemStack getStackInSlot(int slot) {
+        return ItemStack.EMPTY;
+    }
+
+    // Inserts into the reliquary's next free slots and returns the remainder
+    @Override
+    public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
+        if (slot != 0 || !isItemValid(slot, stack)) return stack;
+
+        int accepted = simulate
+                ? Math.min(stack.getCount(), reliquary.getFreeSlotCount())
+                : reliquary.insertUpTo(stack, stack.getCount());
+
+        if (accepted <= 0) return stack;
+        return accepted >= stack.getCount() ? ItemStack.EMPTY : stack.copyWithCount(stack.getCount() - accepted);
+    }
+
+    // Refuses all extraction
+    @Override
+    public ItemStack extractItem(int slot, int amount, boolean simulate) {
+        return ItemStack.EMPTY;
+    }
+
+    // Returns the reliquary's total slot capacity as the virtual slot limit
+    @Override
+    public int getSlotLimit(int slot) {
+        return ModCorruptedReliquaryBlockEntity.MAX_SLOTS;
+    }
+
+    // Returns true when the reliquary can currently accept the stack
+    @Override
+    public boolean isItemValid(int slot, ItemStack stack) {
+        return slot == 0 && reliquary.canInsert(stack);
+    }
+}
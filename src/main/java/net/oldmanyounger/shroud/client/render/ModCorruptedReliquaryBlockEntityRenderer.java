@@ -76,7 +76,7 @@ public class ModCorruptedReliquaryBlockEntityRenderer implements BlockEntityRend
     // Renders occupied reliquary items with idle ring motion and ritual convergence animation
     @Override
     public void render(ModCorruptedReliquaryBlockEntity blockEntity, float partialTick, PoseStack poseStack, MultiBufferSource buffer, int packedLight, int packedOverlay) {
-        int occupiedCount = countOccupiedItems(blockEntity);
+        int occupiedCount = blockEntity.getOccupiedSlotCount();
         if (occupiedCount <= 0) return;
 
         var itemRenderer = Minecraft.getInstance().getItemRenderer();
@@ -102,11 +102,10 @@ public class ModCorruptedReliquaryBlockEntityRenderer implements BlockEntityRend
         float bobTime = gameTime * BOB_SPEED_RAD_PER_TICK;
 
         int renderIndex = 0;
-        int totalSlots = blockEntity.getContainerSize();
 
-        for (int slot = 0; slot < totalSlots; slot++) {
-            ItemStack stack = blockEntity.getItem(slot);
-            if (stack.isEmpty()) continue;
+        // Visits occupied slots in slot order straight from the occupancy mask
+        for (int mask = blockEntity.getOccupiedMask(); mask != 0; mask &= mask - 1) {
+            ItemStack stack = blockEntity.getItem(Integer.numberOfTrailingZeros(mask));
 
             renderItemInRing(
                     blockEntity,
@@ -132,20 +131,6 @@ public class ModCorruptedReliquaryBlockEntityRenderer implements BlockEntityRend
     //  HELPERS
     // ==================================
 
-    // Counts non-empty reliquary slots
-    private int countOccupiedItems(ModCorruptedReliquaryBlockEntity blockEntity) {
-        int totalSlots = blockEntity.getContainerSize();
-        int occupied = 0;
-
-        for (int slot = 0; slot < totalSlots; slot++) {
-            if (!blockEntity.getItem(slot).isEmpty()) {
-                occupied++;
-            }
-        }
-
-        return occupied;
-    }
-
     // Renders one item at its ring position and orientation
     private void renderItemInRing(
             ModCorruptedReliquaryBlockEntity blockEntity,
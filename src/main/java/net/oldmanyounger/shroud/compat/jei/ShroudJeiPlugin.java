@@ -9,8 +9,8 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.resources.ResourceLocation;
 import net.oldmanyounger.shroud.Shroud;
 import net.oldmanyounger.shroud.block.ModBlocks;
+import net.oldmanyounger.shroud.ritual.RitualRecipeIndex;
 import net.oldmanyounger.shroud.ritual.recipe.RitualRecipe;
-import net.oldmanyounger.shroud.ritual.recipe.RitualRecipeRegistries;
 
 import java.util.List;
 
@@ -46,7 +46,7 @@ public final class ShroudJeiPlugin implements IModPlugin {
         registration.addRecipeCategories(new JeiRitualRecipeCategory(registration.getJeiHelpers().getGuiHelper()));
     }
 
-    // Registers ritual recipes from recipe manager ritual type entries
+    // Registers ritual recipes from the compiled ritual recipe index
     @Override
     public void registerRecipes(IRecipeRegistration registration) {
         Minecraft minecraft = Minecraft.getInstance();
@@ -55,10 +55,9 @@ public final class ShroudJeiPlugin implements IModPlugin {
             return;
         }
 
-        List<JeiRitualDisplay> displays = minecraft.level.getRecipeManager()
-                .getAllRecipesFor(RitualRecipeRegistries.RITUAL_TYPE.get())
+        List<JeiRitualDisplay> displays = RitualRecipeIndex.get(minecraft.level.getRecipeManager())
+                .recipes()
                 .stream()
-                .map(holder -> holder.value().toRuntime(holder.id()))
                 .map(this::mapRecipe)
                 .toList();
 
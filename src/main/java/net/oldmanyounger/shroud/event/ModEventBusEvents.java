@@ -2,8 +2,11 @@ package net.oldmanyounger.shroud.event;
 
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.capabilities.RegisterCapabilitiesEvent;
 import net.neoforged.neoforge.event.entity.EntityAttributeCreationEvent;
 import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.block.entity.ModBlockEntities;
 import net.oldmanyounger.shroud.entity.ModEntities;
 import net.oldmanyounger.shroud.entity.custom.BlightedShadeEntity;
 import net.oldmanyounger.shroud.entity.custom.GloamEyedAmalgamEntity;
@@ -11,11 +14,11 @@ import net.oldmanyounger.shroud.entity.custom.LivingSculkEntity;
 import net.oldmanyounger.shroud.entity.custom.UmbralHowlerEntity;
 
 /**
- * Registers entity attribute sets during the mod event bus lifecycle.
+ * Registers entity attribute sets and block capabilities during the mod event bus lifecycle.
  *
  * <p>This class wires each custom Shroud entity type to its corresponding
  * attribute builder so health, speed, damage, and related stats are available
- * at runtime.
+ * at runtime, and exposes block entity capabilities used by automation.
  *
  * <p>In the broader context of the project, this class is part of Shroud's
  * initialization pipeline that finalizes custom entity definitions before play.
@@ -31,4 +34,14 @@ public class ModEventBusEvents {
         event.put(ModEntities.BLIGHTED_SHADE.get(), BlightedShadeEntity.createAttributes().build());
         event.put(ModEntities.GLOAM_EYED_AMALGAM.get(), GloamEyedAmalgamEntity.createAttributes().build());
     }
+
+    // Registers the reliquary's single-slot insertion handler for hoppers and item pipes
+    @SubscribeEvent
+    public static void registerCapabilities(RegisterCapabilitiesEvent event) {
+        event.registerBlockEntity(
+                Capabilities.ItemHandler.BLOCK,
+                ModBlockEntities.CORRUPTED_RELIQUARY.get(),
+                (reliquary, side) -> reliquary.getInsertionHandler()
+        );
+    }
 }
\ No newline at end of file
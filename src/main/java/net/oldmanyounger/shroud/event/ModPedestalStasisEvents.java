@@ -0,0 +1,48 @@
+package net.oldmanyounger.shroud.event;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Mob;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.block.entity.ModBindingPedestalBlockEntity;
+
+/**
+ * Releases orphaned binding pedestal mobs from stasis when they load.
+ *
+ * <p>A bound mob carries a stasis marker naming its pedestal. When a marked mob joins a level and
+ * that pedestal is loaded but no longer holds it, for example because the pedestal was broken
+ * while the mob was unloaded, the mob's original AI state is restored from the marker.
+ *
+ * <p>In the broader context of the project, this class keeps pedestal stasis from leaving mobs
+ * permanently frozen in the world.
+ */
+@EventBusSubscriber(modid = Shroud.MOD_ID)
+public final class ModPedestalStasisEvents {
+
+    // Prevents instantiation of this static event handler class
+    private ModPedestalStasisEvents() {
+    }
+
+    // Restores a marked mob's AI when its recorded pedestal no longer binds it
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) return;
+        if (!(event.getEntity() instanceof Mob mob)) return;
+
+        BlockPos pedestalPos = ModBindingPedestalBlockEntity.getStasisPedestal(mob);
+        if (pedestalPos == null) return;
+
+        // Leaves the decision to the pedestal when its chunk is not loaded yet
+        if (!serverLevel.isLoaded(pedestalPos)) return;
+
+        if (serverLevel.getBlockEntity(pedestalPos) instanceof ModBindingPedestalBlockEntity pedestal
+                && pedestal.isBoundTo(mob.getUUID())) {
+            return;
+        }
+
+        ModBindingPedestalBlockEntity.clearStasis(mob, false);
+    }
+}
@@ -5,6 +5,8 @@ import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
 import net.neoforged.neoforge.network.registration.PayloadRegistrar;
 import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.network.payload.PedestalHealthSyncPayload;
+import net.oldmanyounger.shroud.network.payload.ReliquarySlotSyncPayload;
 import net.oldmanyounger.shroud.network.payload.ShowLastBreathActivationPayload;
 
 /**
@@ -34,5 +36,17 @@ public final class ModPayloads {
                 ShowLastBreathActivationPayload.STREAM_CODEC,
                 ShowLastBreathActivationPayload::handle
         );
+
+        registrar.playToClient(
+                ReliquarySlotSyncPayload.TYPE,
+                ReliquarySlotSyncPayload.STREAM_CODEC,
+                ReliquarySlotSyncPayload::handle
+        );
+
+        registrar.playToClient(
+                PedestalHealthSyncPayload.TYPE,
+                PedestalHealthSyncPayload.STREAM_CODEC,
+                PedestalHealthSyncPayload::handle
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package net.oldmanyounger.shroud.network.payload;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.block.entity.ModBindingPedestalBlockEntity;
+
+/**
+ * Clientbound payload that carries a binding pedestal's bound mob health telemetry.
+ *
+ * <p>This payload holds only the pedestal position and the bound mob's current and maximum
+ * health. Pedestals throttle and coalesce health changes into at most one of these per sync
+ * interval, leaving full block entity updates for binding changes.
+ *
+ * <p>In the broader context of the project, this class is part of Shroud's network
+ * presentation layer that keeps pedestal health display current during rituals without
+ * resending or re-saving pedestal state.
+ */
+public record PedestalHealthSyncPayload(
+        BlockPos pos,
+        float health,
+        float maxHealth
+) implements CustomPacketPayload {
+
+    // Packet payload type identifier
+    public static final Type<PedestalHealthSyncPayload> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(Shroud.MOD_ID, "pedestal_health_sync"));
+
+    // Codec for encoding and decoding pedestal position and health values
+    public static final StreamCodec<RegistryFriendlyByteBuf, PedestalHealthSyncPayload> STREAM_CODEC =
+            StreamCodec.composite(
+                    BlockPos.STREAM_CODEC, PedestalHealthSyncPayload::pos,
+                    ByteBufCodecs.FLOAT, PedestalHealthSyncPayload::health,
+                    ByteBufCodecs.FLOAT, PedestalHealthSyncPayload::maxHealth,
+                    PedestalHealthSyncPayload::new
+            );
+
+    // Returns this payload's network type token
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    // Handles payload on the client and applies health values to the matching pedestal
+    public static void handle(PedestalHealthSyncPayload payload, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            Level level = context.player().level();
+            if (!level.isLoaded(payload.pos())) return;
+
+            if (level.getBlockEntity(payload.pos()) instanceof ModBindingPedestalBlockEntity pedestal) {
+                pedestal.applyHealthSync(payload.health(), payload.maxHealth());
+            }
+        });
+    }
+}
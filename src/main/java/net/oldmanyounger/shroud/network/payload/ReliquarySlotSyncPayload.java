@@ -0,0 +1,133 @@
+package net.oldmanyounger.shroud.network.payload;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.block.entity.ModCorruptedReliquaryBlockEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Clientbound payload that carries changed Corrupted Reliquary slots and flags.
+ *
+ * <p>This payload holds a bitmask of changed slots followed by only those stacks, plus the
+ * inventory revision, ritual lock flag, and ritual visual state when it changed. The reliquary
+ * coalesces its mutations into at most one of these per tick, so full block entity tags are only
+ * sent when a chunk is loaded by a client.
+ *
+ * <p>In the broader context of the project, this class is part of Shroud's network
+ * presentation layer that keeps reliquary renderers and ritual particles in step with the
+ * server without resending whole inventories.
+ */
+public record ReliquarySlotSyncPayload(
+        BlockPos pos,
+        int inventoryRevision,
+        boolean ritualLocked,
+        int changedSlotMask,
+        List<ItemStack> changedStacks,
+        Optional<RitualVisual> ritualVisual
+) implements CustomPacketPayload {
+
+    // Packet payload type identifier
+    public static final Type<ReliquarySlotSyncPayload> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(Shroud.MOD_ID, "reliquary_slot_sync"));
+
+    // Codec for encoding and decoding changed slots in mask order
+    public static final StreamCodec<RegistryFriendlyByteBuf, ReliquarySlotSyncPayload> STREAM_CODEC =
+            StreamCodec.of(ReliquarySlotSyncPayload::write, ReliquarySlotSyncPayload::read);
+
+    // Returns this payload's network type token
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    // Handles payload on the client and applies the delta to the matching reliquary
+    public static void handle(ReliquarySlotSyncPayload payload, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            Level level = context.player().level();
+            if (!level.isLoaded(payload.pos())) return;
+
+            if (level.getBlockEntity(payload.pos()) instanceof ModCorruptedReliquaryBlockEntity reliquary) {
+                reliquary.applySlotSync(payload);
+            }
+        });
+    }
+
+    // Writes the payload with one stack per set mask bit
+    private static void write(RegistryFriendlyByteBuf buf, ReliquarySlotSyncPayload payload) {
+        buf.writeBlockPos(payload.pos());
+        buf.writeVarInt(payload.inventoryRevision());
+        buf.writeBoolean(payload.ritualLocked());
+        buf.writeInt(payload.changedSlotMask());
+
+        for (ItemStack stack : payload.changedStacks()) {
+            ItemStack.OPTIONAL_STREAM_CODEC.encode(buf, stack);
+        }
+
+        buf.writeBoolean(payload.ritualVisual().isPresent());
+        payload.ritualVisual().ifPresent(visual -> {
+            buf.writeBoolean(visual.active());
+            buf.writeVarLong(visual.startTick());
+            buf.writeVarInt(visual.durationTicks());
+            buf.writeVarInt(visual.pedestals().size());
+            for (BlockPos pedestalPos : visual.pedestals()) {
+                buf.writeBlockPos(pedestalPos);
+            }
+        });
+    }
+
+    // Reads the payload written by write
+    private static ReliquarySlotSyncPayload read(RegistryFriendlyByteBuf buf) {
+        BlockPos pos = buf.readBlockPos();
+        int inventoryRevision = buf.readVarInt();
+        boolean ritualLocked = buf.readBoolean();
+        int changedSlotMask = buf.readInt();
+
+        int stackCount = Integer.bitCount(changedSlotMask);
+        List<ItemStack> changedStacks = new ArrayList<>(stackCount);
+        for (int i = 0; i < stackCount; i++) {
+            changedStacks.add(ItemStack.OPTIONAL_STREAM_CODEC.decode(buf));
+        }
+
+        Optional<RitualVisual> ritualVisual = Optional.empty();
+        if (buf.readBoolean()) {
+            boolean active = buf.readBoolean();
+            long startTick = buf.readVarLong();
+            int durationTicks = buf.readVarInt();
+
+            int pedestalCount = buf.readVarInt();
+            List<BlockPos> pedestals = new ArrayList<>(pedestalCount);
+            for (int i = 0; i < pedestalCount; i++) {
+                pedestals.add(buf.readBlockPos());
+            }
+
+            ritualVisual = Optional.of(new RitualVisual(active, startTick, durationTicks, List.copyOf(pedestals)));
+        }
+
+        return new ReliquarySlotSyncPayload(pos, inventoryRevision, ritualLocked, changedSlotMask, changedStacks, ritualVisual);
+    }
+
+    /**
+     * Ritual visual state sent only when it changed since the previous sync.
+     *
+     * <p>In the broader context of the project, this lets clients derive ritual phase particles
+     * locally from a single start tick.
+     */
+    public record RitualVisual(
+            boolean active,
+            long startTick,
+            int durationTicks,
+            List<BlockPos> pedestals
+    ) {
+
+    }
+}
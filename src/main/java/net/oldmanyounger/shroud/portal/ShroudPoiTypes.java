@@ -0,0 +1,58 @@
+package net.oldmanyounger.shroud.portal;
+
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.entity.ai.village.poi.PoiType;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.block.ModBlocks;
+
+/**
+ * Registers point-of-interest types used by Shroud portal travel.
+ *
+ * <p>This class declares the Sculk Portal as a POI so the level's POI manager indexes every
+ * portal block state as it is placed or loaded, the same way vanilla tracks Nether portals.
+ *
+ * <p>In the broader context of the project, this class lets exit portal lookups run as POI
+ * section queries instead of scanning block columns in the destination dimension.
+ */
+public final class ShroudPoiTypes {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Deferred register for all Shroud point-of-interest types
+    public static final DeferredRegister<PoiType> POI_TYPES =
+            DeferredRegister.create(Registries.POINT_OF_INTEREST_TYPE, Shroud.MOD_ID);
+
+    // Point of interest covering every Sculk Portal block state
+    public static final DeferredHolder<PoiType, PoiType> SCULK_PORTAL =
+            POI_TYPES.register(
+                    "sculk_portal",
+                    () -> new PoiType(
+                            ImmutableSet.copyOf(ModBlocks.SCULK_PORTAL.get().getStateDefinition().getPossibleStates()),
+                            0,
+                            1
+                    )
+            );
+
+    // ==================================
+    //  CONSTRUCTOR
+    // ==================================
+
+    // Prevents instantiation of this static registry class
+    private ShroudPoiTypes() {
+    }
+
+    // ==================================
+    //  REGISTRATION
+    // ==================================
+
+    // Registers all declared POI types onto the mod event bus
+    public static void register(IEventBus eventBus) {
+        POI_TYPES.register(eventBus);
+    }
+}
@@ -29,7 +29,8 @@ import javax.annotation.Nullable;
  *
  * <p>This block defines portal state and collision shape, tracks entity portal entry,
  * validates frame integrity, and computes destination transitions between Overworld and
- * the custom Shroud dimension.
+ * the custom Shroud dimension. Destinations are reused from the persistent portal link table
+ * when the linked exit portal still stands.
  *
  * <p>In the broader context of the project, this class is part of Shroud's dimension
  * travel framework that connects world interaction, portal construction, and teleport
@@ -102,7 +103,7 @@ public class ShroudPortalBlock extends Block implements Portal {
     //  FRAME VALIDATION
     // ==================================
 
-    // Removes portal block when surrounding frame is no longer valid
+    // Collapses the portal when a change touches its registered frame border or interior
     @Override
     public void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean isMoving) {
         super.neighborChanged(state, level, pos, block, fromPos, isMoving);
@@ -128,9 +129,31 @@ public class ShroudPortalBlock extends Block implements Portal {
         ServerLevel serverLevel = (ServerLevel) level;
         Direction.Axis axis = state.getValue(AXIS);
 
-        if (!ShroudPortalHelper.isValidExistingPortal(serverLevel, pos, axis)) {
-            level.removeBlock(pos, false);
+        // Detects and registers frames of portals built before the registry was populated
+        ShroudPortalFrames.PortalFrame frame = ShroudPortalFrames.frameAt(serverLevel, pos);
+        if (frame == null) {
+            frame = ShroudPortalHelper.findExistingFrame(serverLevel, pos, axis);
+            if (frame == null) {
+                level.removeBlock(pos, false);
+                return;
+            }
+            ShroudPortalFrames.register(serverLevel, frame);
         }
+
+        if (!ShroudPortalHelper.isStillIntact(serverLevel, frame, fromPos)) {
+            ShroudPortalHelper.collapsePortal(serverLevel, frame);
+        }
+    }
+
+    // Drops portal links that touch this block and its frame once no interior portal block remains
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (!state.is(newState.getBlock()) && level instanceof ServerLevel serverLevel) {
+            ShroudPortalLinks.get(serverLevel.getServer()).forget(serverLevel.dimension(), pos);
+            ShroudPortalFrames.onPortalBlockRemoved(serverLevel, pos);
+        }
+
+        super.onRemove(state, level, pos, newState, movedByPiston);
     }
 
     // ==================================
@@ -153,29 +176,27 @@ public class ShroudPortalBlock extends Block implements Portal {
             return null;
         }
 
-        WorldBorder worldBorder = targetLevel.getWorldBorder();
-
-        DimensionType currentType = currentLevel.dimensionType();
-        DimensionType targetType = targetLevel.dimensionType();
-
-        double scale = DimensionType.getTeleportationScale(currentType, targetType);
-
-        Vec3 entityPos = entity.position();
-        double scaledX = clampToBorder(worldBorder, entityPos.x * scale);
-        double scaledZ = clampToBorder(worldBorder, entityPos.z * scale);
-
-        BlockPos targetBasePos = new BlockPos(
-                (int) Math.floor(scaledX),
-                portalPos.getY(),
-                (int) Math.floor(scaledZ)
-        );
-
         Direction.Axis axis = currentLevel
                 .getBlockState(portalPos)
                 .getOptionalValue(AXIS)
                 .orElse(Direction.Axis.X);
 
-        BlockPos exitPortalPos = ShroudPortalForcer.createOrFindPortal(targetLevel, targetBasePos, axis);
+        ShroudPortalLinks links = ShroudPortalLinks.get(currentLevel.getServer());
+        BlockPos sourceOrigin = ShroudPortalHelper.findInteriorOrigin(currentLevel, portalPos, axis);
+
+        BlockPos exitPortalPos = links.findValidDestination(currentDimension, sourceOrigin, targetLevel);
+        if (exitPortalPos == null) {
+            exitPortalPos = findOrCreateExitPortal(currentLevel, targetLevel, entity, portalPos, axis);
+
+            // Links both directions so the return trip through the exit portal also skips the search
+            Direction.Axis exitAxis = targetLevel
+                    .getBlockState(exitPortalPos)
+                    .getOptionalValue(AXIS)
+                    .orElse(axis);
+
+            links.link(currentDimension, sourceOrigin, targetDimensionKey, exitPortalPos);
+            links.link(targetDimensionKey, ShroudPortalHelper.findInteriorOrigin(targetLevel, exitPortalPos, exitAxis), currentDimension, sourceOrigin);
+        }
 
         Vec3 exitPosition = Vec3.atBottomCenterOf(exitPortalPos).add(0.0D, 0.5D, 0.0D);
         Vec3 exitVelocity = entity.getDeltaMovement();
@@ -190,6 +211,28 @@ public class ShroudPortalBlock extends Block implements Portal {
         );
     }
 
+    // Scales the entity position into the target dimension and finds or builds an exit portal there
+    private static BlockPos findOrCreateExitPortal(ServerLevel currentLevel, ServerLevel targetLevel, Entity entity, BlockPos portalPos, Direction.Axis axis) {
+        WorldBorder worldBorder = targetLevel.getWorldBorder();
+
+        DimensionType currentType = currentLevel.dimensionType();
+        DimensionType targetType = targetLevel.dimensionType();
+
+        double scale = DimensionType.getTeleportationScale(currentType, targetType);
+
+        Vec3 entityPos = entity.position();
+        double scaledX = clampToBorder(worldBorder, entityPos.x * scale);
+        double scaledZ = clampToBorder(worldBorder, entityPos.z * scale);
+
+        BlockPos targetBasePos = new BlockPos(
+                (int) Math.floor(scaledX),
+                portalPos.getY(),
+                (int) Math.floor(scaledZ)
+        );
+
+        return ShroudPortalForcer.createOrFindPortal(targetLevel, targetBasePos, axis);
+    }
+
     // ==================================
     //  HELPERS
     // ==================================
@@ -6,6 +6,8 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ai.village.poi.PoiManager;
+import net.minecraft.world.entity.ai.village.poi.PoiRecord;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.border.WorldBorder;
@@ -13,12 +15,16 @@ import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.portal.DimensionTransition;
 import net.oldmanyounger.shroud.block.ModBlocks;
 
+import java.util.Comparator;
+import java.util.Optional;
+
 /**
  * Finds existing Shroud portals or constructs new ones in a target dimension.
  *
  * <p>This utility prioritizes nearest-portal reuse for stable return linking, then
  * falls back to terrain-aware frame construction and interior portal placement when
- * no valid portal is found nearby.
+ * no valid portal is found nearby. Existing portals are located through the level's
+ * point-of-interest index rather than by scanning blocks.
  *
  * <p>In the broader context of the project, this class is part of Shroud's portal
  * infrastructure that guarantees reliable cross-dimension travel endpoints and
@@ -50,6 +56,11 @@ public final class ShroudPortalForcer {
         return BUILDING_PORTAL;
     }
 
+    // Sets whether portal construction is currently in progress
+    static void setBuildingPortal(boolean buildingPortal) {
+        BUILDING_PORTAL = buildingPortal;
+    }
+
     // ==================================
     //  PUBLIC ENTRY POINT
     // ==================================
@@ -113,40 +124,21 @@ public final class ShroudPortalForcer {
         return new BlockPos(clampedX, pos.getY(), clampedZ);
     }
 
-    // Searches for nearest Shroud portal block in a cubic radius around center
+    // Finds the nearest indexed Shroud portal block in a full-height square around center
     private static BlockPos findNearestPortal(ServerLevel level, BlockPos center, int radius) {
-        BlockPos nearest = null;
-        double nearestDistSq = Double.MAX_VALUE;
-
-        int minY = level.getMinBuildHeight();
-        int maxY = level.getMaxBuildHeight() - 1;
-
-        for (int dx = -radius; dx <= radius; dx++) {
-            int x = center.getX() + dx;
-
-            for (int dz = -radius; dz <= radius; dz++) {
-                int z = center.getZ() + dz;
-
-                for (int y = minY; y <= maxY; y++) {
-                    BlockPos pos = new BlockPos(x, y, z);
+        PoiManager poiManager = level.getPoiManager();
+        poiManager.ensureLoadedAndValid(level, center, radius);
 
-                    if (level.getBlockState(pos).is(ModBlocks.SCULK_PORTAL.get())) {
-                        double distSq = pos.distSqr(center);
-
-                        if (distSq < nearestDistSq) {
-                            nearestDistSq = distSq;
-                            nearest = pos;
-                        }
-                    }
-                }
-            }
-        }
+        WorldBorder border = level.getWorldBorder();
 
-        if (nearest != null) {
-            return moveToBottomOfPortal(level, nearest);
-        }
+        Optional<BlockPos> nearest = poiManager
+                .getInSquare(holder -> holder.is(ShroudPoiTypes.SCULK_PORTAL.getKey()), center, radius, PoiManager.Occupancy.ANY)
+                .map(PoiRecord::getPos)
+                .filter(border::isWithinBounds)
+                .filter(pos -> level.getBlockState(pos).is(ModBlocks.SCULK_PORTAL.get()))
+                .min(Comparator.comparingDouble(pos -> pos.distSqr(center)));
 
-        return null;
+        return nearest.map(pos -> moveToBottomOfPortal(level, pos)).orElse(null);
     }
 
     // Moves down to lowest connected portal block in the same vertical column
@@ -185,11 +177,6 @@ public final class ShroudPortalForcer {
 
         BlockState frameState = Blocks.REINFORCED_DEEPSLATE.defaultBlockState();
 
-        BlockState portalState = ModBlocks.SCULK_PORTAL
-                .get()
-                .defaultBlockState()
-                .setValue(ShroudPortalBlock.AXIS, axis);
-
         int frameWidth = interiorWidth + 2;
         int frameHeight = interiorHeight + 2;
 
@@ -203,12 +190,12 @@ public final class ShroudPortalForcer {
 
                 if (isFrame) {
                     level.setBlockAndUpdate(current, frameState);
-                } else {
-                    level.setBlockAndUpdate(current, portalState);
                 }
             }
         }
 
+        // Shares the bulk interior fill with player-activated portals
+        ShroudPortalHelper.fillInterior(level, new ShroudPortalFrames.PortalFrame(bottomLeftFrame, frameWidth, frameHeight, axis));
         return bottomLeftInterior.above();
     }
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+package net.oldmanyounger.shroud.portal;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.oldmanyounger.shroud.Shroud;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-level registry of validated Shroud portal frames indexed by interior position.
+ *
+ * <p>Frames are registered when a portal is activated or built, and lazily when a portal block
+ * with no recorded frame is first validated. A neighbor change on a portal block then resolves
+ * its frame with one hash lookup and only checks whether the changed position belongs to that
+ * frame's border or interior, instead of re-detecting frames across the surrounding area. The
+ * registry is saved in each level's data storage so frames survive restarts, and a frame is
+ * dropped once its last interior portal block is removed.
+ *
+ * <p>In the broader context of the project, this class is the source of truth for portal frame
+ * geometry used by portal integrity checks and collapse.
+ */
+public final class ShroudPortalFrames extends SavedData {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Saved data file name inside each level's data folder
+    private static final String DATA_NAME = Shroud.MOD_ID + "_portal_frames";
+
+    // NBT key for stored frames
+    private static final String TAG_FRAMES = "Frames";
+
+    // NBT key for packed bottom-left frame position
+    private static final String TAG_BOTTOM_LEFT = "BottomLeft";
+
+    // NBT key for outer frame width
+    private static final String TAG_WIDTH = "Width";
+
+    // NBT key for outer frame height
+    private static final String TAG_HEIGHT = "Height";
+
+    // NBT key for frame axis name
+    private static final String TAG_AXIS = "Axis";
+
+    // Saved data factory used by level data storage
+    private static final SavedData.Factory<ShroudPortalFrames> FACTORY =
+            new SavedData.Factory<>(ShroudPortalFrames::new, ShroudPortalFrames::load, null);
+
+    // Registered frames keyed by every interior portal position
+    private final Map<BlockPos, PortalFrame> framesByInterior = new HashMap<>();
+
+    // Distinct registered frames written on save
+    private final Set<PortalFrame> frames = new HashSet<>();
+
+    // ==================================
+    //  ACCESS
+    // ==================================
+
+    // Returns the frame registry of a level, loading or creating it on first use
+    private static ShroudPortalFrames get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(FACTORY, DATA_NAME);
+    }
+
+    // ==================================
+    //  REGISTRATION
+    // ==================================
+
+    // Registers a validated frame under all of its interior positions
+    public static void register(ServerLevel level, PortalFrame frame) {
+        get(level).add(frame);
+    }
+
+    // Unregisters a frame from all of its interior positions
+    public static void unregister(ServerLevel level, PortalFrame frame) {
+        get(level).remove(frame);
+    }
+
+    // Unregisters the frame around a removed portal block once none of its interior portal blocks remain
+    public static void onPortalBlockRemoved(ServerLevel level, BlockPos pos) {
+        ShroudPortalFrames registry = get(level);
+        PortalFrame frame = registry.framesByInterior.get(pos);
+        if (frame == null) return;
+
+        if (!ShroudPortalHelper.hasPortalBlocks(level, frame)) {
+            registry.remove(frame);
+        }
+    }
+
+    // Indexes a frame under its interior positions and marks the registry for saving
+    private void add(PortalFrame frame) {
+        Direction right = frame.right();
+        BlockPos interiorOrigin = frame.interiorOrigin();
+        for (int x = 0; x < frame.interiorWidth(); x++) {
+            for (int y = 0; y < frame.interiorHeight(); y++) {
+                // Replaces any older overlapping frame entirely so no stale geometry remains indexed
+                PortalFrame previous = framesByInterior.put(interiorOrigin.relative(right, x).above(y), frame);
+                if (previous != null && !previous.equals(frame)) {
+                    remove(previous);
+                }
+            }
+        }
+
+        frames.add(frame);
+        setDirty();
+    }
+
+    // Drops a frame from its interior positions and marks the registry for saving
+    private void remove(PortalFrame frame) {
+        if (!frames.remove(frame)) return;
+
+        Direction right = frame.right();
+        BlockPos interiorOrigin = frame.interiorOrigin();
+        for (int x = 0; x < frame.interiorWidth(); x++) {
+            for (int y = 0; y < frame.interiorHeight(); y++) {
+                framesByInterior.remove(interiorOrigin.relative(right, x).above(y), frame);
+            }
+        }
+
+        setDirty();
+    }
+
+    // ==================================
+    //  QUERIES
+    // ==================================
+
+    // Returns the registered frame whose interior contains the given position
+    @Nullable
+    public static PortalFrame frameAt(ServerLevel level, BlockPos interiorPos) {
+        return get(level).framesByInterior.get(interiorPos);
+    }
+
+    // ==================================
+    //  SAVE / LOAD
+    // ==================================
+
+    // Writes all registered frames
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag list = new ListTag();
+        for (PortalFrame frame : frames) {
+            CompoundTag frameTag = new CompoundTag();
+            frameTag.putLong(TAG_BOTTOM_LEFT, frame.bottomLeftFrame().asLong());
+            frameTag.putInt(TAG_WIDTH, frame.outerWidth());
+            frameTag.putInt(TAG_HEIGHT, frame.outerHeight());
+            frameTag.putString(TAG_AXIS, frame.axis().getName());
+            list.add(frameTag);
+        }
+        tag.put(TAG_FRAMES, list);
+        return tag;
+    }
+
+    // Reads all stored frames and skips malformed entries
+    private static ShroudPortalFrames load(CompoundTag tag, HolderLookup.Provider registries) {
+        ShroudPortalFrames registry = new ShroudPortalFrames();
+
+        ListTag list = tag.getList(TAG_FRAMES, Tag.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++) {
+            CompoundTag frameTag = list.getCompound(i);
+
+            Direction.Axis axis = Direction.Axis.byName(frameTag.getString(TAG_AXIS));
+            if (axis == null || axis == Direction.Axis.Y) continue;
+
+            registry.add(new PortalFrame(
+                    BlockPos.of(frameTag.getLong(TAG_BOTTOM_LEFT)),
+                    frameTag.getInt(TAG_WIDTH),
+                    frameTag.getInt(TAG_HEIGHT),
+                    axis
+            ));
+        }
+
+        registry.setDirty(false);
+        return registry;
+    }
+
+    // ==================================
+    //  INNER TYPES
+    // ==================================
+
+    /**
+     * Validated frame placement, size, and orientation.
+     *
+     * <p>In the broader context of the project, this is the geometry shared by frame detection,
+     * portal filling, and integrity checks.
+     */
+    public record PortalFrame(BlockPos bottomLeftFrame, int outerWidth, int outerHeight, Direction.Axis axis) {
+
+        // Returns the horizontal direction frame columns advance in
+        public Direction right() {
+            return axis == Direction.Axis.X ? Direction.EAST : Direction.SOUTH;
+        }
+
+        // Returns the bottom-left interior position
+        public BlockPos interiorOrigin() {
+            return bottomLeftFrame.relative(right(), 1).above(1);
+        }
+
+        // Returns interior width excluding the border
+        public int interiorWidth() {
+            return outerWidth - 2;
+        }
+
+        // Returns interior height excluding the border
+        public int interiorHeight() {
+            return outerHeight - 2;
+        }
+
+        // Returns the column offset of a position in the frame plane, or -1 when outside the plane or bounds
+        public int columnOf(BlockPos pos) {
+            boolean inPlane = axis == Direction.Axis.X
+                    ? pos.getZ() == bottomLeftFrame.getZ()
+                    : pos.getX() == bottomLeftFrame.getX();
+            if (!inPlane) return -1;
+
+            int column = axis == Direction.Axis.X
+                    ? pos.getX() - bottomLeftFrame.getX()
+                    : pos.getZ() - bottomLeftFrame.getZ();
+            return column >= 0 && column < outerWidth ? column : -1;
+        }
+
+        // Returns the row offset of a position above the frame bottom, or -1 when outside bounds
+        public int rowOf(BlockPos pos) {
+            int row = pos.getY() - bottomLeftFrame.getY();
+            return row >= 0 && row < outerHeight ? row : -1;
+        }
+    }
+}
@@ -3,16 +3,23 @@ package net.oldmanyounger.shroud.portal;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.oldmanyounger.shroud.block.ModBlocks;
+import net.oldmanyounger.shroud.portal.ShroudPortalFrames.PortalFrame;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Provides frame validation and interior fill helpers for Shroud portal creation.
  *
  * <p>This utility detects rectangular frame geometry, verifies border and interior
  * constraints, and fills valid interiors with Shroud portal blocks across both
- * horizontal axes.
+ * horizontal axes. Frames it validates are recorded in {@link ShroudPortalFrames} so later
+ * integrity checks touch only the changed position, and a broken frame collapses in one pass.
  *
  * <p>In the broader context of the project, this class is part of Shroud's portal
  * construction pipeline that ensures activation logic remains deterministic and
@@ -65,8 +72,9 @@ public final class ShroudPortalHelper {
         return false;
     }
 
-    // Returns true when the given portal block still belongs to a valid detected frame
-    public static boolean isValidExistingPortal(ServerLevel level, BlockPos portalPos, Direction.Axis axis) {
+    // Returns the valid detected frame whose interior contains the given portal block, or null
+    @Nullable
+    public static PortalFrame findExistingFrame(ServerLevel level, BlockPos portalPos, Direction.Axis axis) {
         Direction right = getRight(axis);
 
         for (int dx = -MAX_OUTER_SIZE; dx <= MAX_OUTER_SIZE; dx++) {
@@ -79,6 +87,37 @@ public final class ShroudPortalHelper {
 
                 PortalFrame frame = findFrame(level, candidate, axis);
                 if (frame != null && isInsideInterior(frame, portalPos)) {
+                    return frame;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    // Returns true when a changed position leaves a registered frame intact
+    public static boolean isStillIntact(ServerLevel level, PortalFrame frame, BlockPos changedPos) {
+        int column = frame.columnOf(changedPos);
+        int row = frame.rowOf(changedPos);
+        if (column < 0 || row < 0) return true;
+
+        boolean isBorder =
+                column == 0 || column == frame.outerWidth() - 1 ||
+                        row == 0 || row == frame.outerHeight() - 1;
+
+        BlockState state = level.getBlockState(changedPos);
+        return isBorder ? isFrameBlock(state) : state.is(ModBlocks.SCULK_PORTAL.get());
+    }
+
+    // Returns true when any interior position of a frame still holds a portal block
+    public static boolean hasPortalBlocks(ServerLevel level, PortalFrame frame) {
+        Block portalBlock = ModBlocks.SCULK_PORTAL.get();
+        Direction right = frame.right();
+        BlockPos interiorOrigin = frame.interiorOrigin();
+
+        for (int x = 0; x < frame.interiorWidth(); x++) {
+            for (int y = 0; y < frame.interiorHeight(); y++) {
+                if (level.getBlockState(interiorOrigin.relative(right, x).above(y)).is(portalBlock)) {
                     return true;
                 }
             }
@@ -87,6 +126,48 @@ public final class ShroudPortalHelper {
         return false;
     }
 
+    // Removes every portal block in a frame's interior in one pass without cascading frame checks
+    public static void collapsePortal(ServerLevel level, PortalFrame frame) {
+        ShroudPortalFrames.unregister(level, frame);
+
+        Block portalBlock = ModBlocks.SCULK_PORTAL.get();
+        Direction right = frame.right();
+        BlockPos interiorOrigin = frame.interiorOrigin();
+        List<BlockPos> removed = new ArrayList<>();
+
+        for (int x = 0; x < frame.interiorWidth(); x++) {
+            for (int y = 0; y < frame.interiorHeight(); y++) {
+                BlockPos current = interiorOrigin.relative(right, x).above(y);
+                if (!level.getBlockState(current).is(portalBlock)) continue;
+
+                level.setBlock(current, Blocks.AIR.defaultBlockState(), Block.UPDATE_CLIENTS);
+                removed.add(current);
+            }
+        }
+
+        // Notifies outside neighbors once the whole interior is gone so no portal block re-validates
+        for (BlockPos pos : removed) {
+            level.updateNeighborsAt(pos, portalBlock);
+        }
+    }
+
+    // Returns the bottom-left interior portal block of the portal containing the given portal block
+    public static BlockPos findInteriorOrigin(ServerLevel level, BlockPos portalPos, Direction.Axis axis) {
+        Block portalBlock = ModBlocks.SCULK_PORTAL.get();
+        Direction left = getRight(axis).getOpposite();
+        BlockPos.MutableBlockPos mutable = portalPos.mutable();
+
+        while (mutable.getY() > level.getMinBuildHeight() && level.getBlockState(mutable.below()).is(portalBlock)) {
+            mutable.move(Direction.DOWN);
+        }
+
+        while (level.getBlockState(mutable.relative(left)).is(portalBlock)) {
+            mutable.move(left);
+        }
+
+        return mutable.immutable();
+    }
+
     // ==================================
     //  PORTAL CREATION FLOW
     // ==================================
@@ -98,25 +179,36 @@ public final class ShroudPortalHelper {
             return false;
         }
 
+        fillInterior(level, frame);
+        return true;
+    }
+
+    // Fills a validated frame's interior in one pass and registers the frame once
+    static void fillInterior(ServerLevel level, PortalFrame frame) {
         BlockState portalState = ModBlocks.SCULK_PORTAL
                 .get()
                 .defaultBlockState()
-                .setValue(ShroudPortalBlock.AXIS, axis);
-
-        Direction right = getRight(axis);
-
-        BlockPos interiorOrigin = frame.bottomLeftFrame.relative(right, 1).above(1);
-        int interiorWidth = frame.outerWidth - 2;
-        int interiorHeight = frame.outerHeight - 2;
-
-        for (int x = 0; x < interiorWidth; x++) {
-            for (int y = 0; y < interiorHeight; y++) {
-                BlockPos current = interiorOrigin.relative(right, x).above(y);
-                level.setBlockAndUpdate(current, portalState);
+                .setValue(ShroudPortalBlock.AXIS, frame.axis());
+
+        Direction right = frame.right();
+        BlockPos interiorOrigin = frame.interiorOrigin();
+
+        // Skips neighbor and shape updates so placed portal blocks never re-validate each other;
+        // client sync and light checks are still queued and flushed per chunk section by the server
+        boolean wasBuilding = ShroudPortalForcer.isBuildingPortal();
+        ShroudPortalForcer.setBuildingPortal(true);
+        try {
+            for (int x = 0; x < frame.interiorWidth(); x++) {
+                for (int y = 0; y < frame.interiorHeight(); y++) {
+                    BlockPos current = interiorOrigin.relative(right, x).above(y);
+                    level.setBlock(current, portalState, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+                }
             }
+        } finally {
+            ShroudPortalForcer.setBuildingPortal(wasBuilding);
         }
 
-        return true;
+        ShroudPortalFrames.register(level, frame);
     }
 
     // ==================================
@@ -162,34 +254,11 @@ public final class ShroudPortalHelper {
 
     // Returns true when a position is inside the interior region of a detected frame
     private static boolean isInsideInterior(PortalFrame frame, BlockPos pos) {
-        BlockPos bottomLeftFrame = frame.bottomLeftFrame();
-        int outerWidth = frame.outerWidth();
-        int outerHeight = frame.outerHeight();
-
-        int interiorWidth = outerWidth - 2;
-        int interiorHeight = outerHeight - 2;
+        int column = frame.columnOf(pos);
+        int row = frame.rowOf(pos);
 
-        if (frame.axis() == Direction.Axis.X) {
-            int interiorMinX = bottomLeftFrame.getX() + 1;
-            int interiorMaxX = interiorMinX + interiorWidth - 1;
-            int interiorMinY = bottomLeftFrame.getY() + 1;
-            int interiorMaxY = interiorMinY + interiorHeight - 1;
-            int planeZ = bottomLeftFrame.getZ();
-
-            return pos.getZ() == planeZ
-                    && pos.getX() >= interiorMinX && pos.getX() <= interiorMaxX
-                    && pos.getY() >= interiorMinY && pos.getY() <= interiorMaxY;
-        } else {
-            int interiorMinZ = bottomLeftFrame.getZ() + 1;
-            int interiorMaxZ = interiorMinZ + interiorWidth - 1;
-            int interiorMinY = bottomLeftFrame.getY() + 1;
-            int interiorMaxY = interiorMinY + interiorHeight - 1;
-            int planeX = bottomLeftFrame.getX();
-
-            return pos.getX() == planeX
-                    && pos.getZ() >= interiorMinZ && pos.getZ() <= interiorMaxZ
-                    && pos.getY() >= interiorMinY && pos.getY() <= interiorMaxY;
-        }
+        return column > 0 && column < frame.outerWidth() - 1
+                && row > 0 && row < frame.outerHeight() - 1;
     }
 
     // Returns horizontal right direction for the given portal axis
@@ -291,12 +360,4 @@ public final class ShroudPortalHelper {
                 ? Math.abs(b.getX() - a.getX())
                 : Math.abs(b.getZ() - a.getZ());
     }
-
-    // ==================================
-    //  INNER TYPES
-    // ==================================
-
-    // Describes detected frame placement, size, and orientation
-    private record PortalFrame(BlockPos bottomLeftFrame, int outerWidth, int outerHeight, Direction.Axis axis) {
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package net.oldmanyounger.shroud.portal;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.block.ModBlocks;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persistent link table between Shroud portals in different dimensions.
+ *
+ * <p>Each link maps a source portal, keyed by its dimension and bottom-left interior block, to
+ * the exit portal block it leads to. Links are recorded in both directions on first traversal and
+ * reused while a single block-state test confirms the exit is still a portal. A reverse index from
+ * exit to sources lets a removed portal block drop every link that touches it. The table lives in
+ * the Overworld's data storage so both dimensions share one copy.
+ *
+ * <p>In the broader context of the project, this class lets repeated trips through the same
+ * portal skip destination scaling, portal search, and construction.
+ */
+public final class ShroudPortalLinks extends SavedData {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Saved data file name inside the Overworld data folder
+    private static final String DATA_NAME = Shroud.MOD_ID + "_portal_links";
+
+    // NBT key for stored links
+    private static final String TAG_LINKS = "Links";
+
+    // NBT key for source dimension id
+    private static final String TAG_SOURCE_DIMENSION = "SourceDimension";
+
+    // NBT key for packed source portal position
+    private static final String TAG_SOURCE_POS = "SourcePos";
+
+    // NBT key for destination dimension id
+    private static final String TAG_DESTINATION_DIMENSION = "DestinationDimension";
+
+    // NBT key for packed destination portal position
+    private static final String TAG_DESTINATION_POS = "DestinationPos";
+
+    // Saved data factory used by level data storage
+    private static final SavedData.Factory<ShroudPortalLinks> FACTORY =
+            new SavedData.Factory<>(ShroudPortalLinks::new, ShroudPortalLinks::load, null);
+
+    // Destination portal per source portal
+    private final Map<PortalLocation, PortalLocation> destinationBySource = new HashMap<>();
+
+    // Source portals per destination portal for invalidation
+    private final Map<PortalLocation, Set<PortalLocation>> sourcesByDestination = new HashMap<>();
+
+    // ==================================
+    //  ACCESS
+    // ==================================
+
+    // Returns the shared portal link table, loading or creating it on first use
+    public static ShroudPortalLinks get(MinecraftServer server) {
+        return server.overworld().getDataStorage().computeIfAbsent(FACTORY, DATA_NAME);
+    }
+
+    // Returns the linked exit portal in the target level when it is still a portal block
+    @Nullable
+    public BlockPos findValidDestination(ResourceKey<Level> sourceDimension, BlockPos sourceOrigin, ServerLevel targetLevel) {
+        PortalLocation destination = destinationBySource.get(new PortalLocation(sourceDimension, sourceOrigin));
+        if (destination == null || !destination.dimension().equals(targetLevel.dimension())) return null;
+
+        if (!targetLevel.getBlockState(destination.pos()).is(ModBlocks.SCULK_PORTAL.get())) {
+            forget(destination.dimension(), destination.pos());
+            return null;
+        }
+
+        return destination.pos();
+    }
+
+    // Records a one-way link from a source portal to an exit portal
+    public void link(ResourceKey<Level> sourceDimension, BlockPos sourceOrigin, ResourceKey<Level> destinationDimension, BlockPos destinationPos) {
+        PortalLocation source = new PortalLocation(sourceDimension, sourceOrigin.immutable());
+        PortalLocation destination = new PortalLocation(destinationDimension, destinationPos.immutable());
+
+        PortalLocation previous = destinationBySource.put(source, destination);
+        if (previous != null) {
+            unindex(previous, source);
+        }
+
+        sourcesByDestination.computeIfAbsent(destination, key -> new HashSet<>()).add(source);
+        setDirty();
+    }
+
+    // Drops every link whose source or destination is the given portal block
+    public void forget(ResourceKey<Level> dimension, BlockPos pos) {
+        PortalLocation location = new PortalLocation(dimension, pos);
+        boolean changed = false;
+
+        PortalLocation destination = destinationBySource.remove(location);
+        if (destination != null) {
+            unindex(destination, location);
+            changed = true;
+        }
+
+        Set<PortalLocation> sources = sourcesByDestination.remove(location);
+        if (sources != null) {
+            for (PortalLocation source : sources) {
+                destinationBySource.remove(source, location);
+            }
+            changed = true;
+        }
+
+        if (changed) {
+            setDirty();
+        }
+    }
+
+    // Removes one source from a destination's reverse index entry
+    private void unindex(PortalLocation destination, PortalLocation source) {
+        Set<PortalLocation> sources = sourcesByDestination.get(destination);
+        if (sources == null) return;
+
+        sources.remove(source);
+        if (sources.isEmpty()) {
+            sourcesByDestination.remove(destination);
+        }
+    }
+
+    // ==================================
+    //  SAVE / LOAD
+    // ==================================
+
+    // Writes all links
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag list = new ListTag();
+        for (Map.Entry<PortalLocation, PortalLocation> entry : destinationBySource.entrySet()) {
+            CompoundTag linkTag = new CompoundTag();
+            linkTag.putString(TAG_SOURCE_DIMENSION, entry.getKey().dimension().location().toString());
+            linkTag.putLong(TAG_SOURCE_POS, entry.getKey().pos().asLong());
+            linkTag.putString(TAG_DESTINATION_DIMENSION, entry.getValue().dimension().location().toString());
+            linkTag.putLong(TAG_DESTINATION_POS, entry.getValue().pos().asLong());
+            list.add(linkTag);
+        }
+        tag.put(TAG_LINKS, list);
+        return tag;
+    }
+
+    // Reads all stored links and skips malformed entries
+    private static ShroudPortalLinks load(CompoundTag tag, HolderLookup.Provider registries) {
+        ShroudPortalLinks links = new ShroudPortalLinks();
+
+        ListTag list = tag.getList(TAG_LINKS, Tag.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++) {
+            CompoundTag linkTag = list.getCompound(i);
+
+            ResourceLocation sourceId = ResourceLocation.tryParse(linkTag.getString(TAG_SOURCE_DIMENSION));
+            ResourceLocation destinationId = ResourceLocation.tryParse(linkTag.getString(TAG_DESTINATION_DIMENSION));
+            if (sourceId == null || destinationId == null) continue;
+
+            links.link(
+                    ResourceKey.create(Registries.DIMENSION, sourceId),
+                    BlockPos.of(linkTag.getLong(TAG_SOURCE_POS)),
+                    ResourceKey.create(Registries.DIMENSION, destinationId),
+                    BlockPos.of(linkTag.getLong(TAG_DESTINATION_POS))
+            );
+        }
+
+        links.setDirty(false);
+        return links;
+    }
+
+    // ==================================
+    //  INNER TYPES
+    // ==================================
+
+    // Portal block position qualified by dimension
+    private record PortalLocation(ResourceKey<Level> dimension, BlockPos pos) {
+    }
+}
@@ -0,0 +1,154 @@
+package net.oldmanyounger.shroud.ritual;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.oldmanyounger.shroud.Shroud;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-level registry of loaded Binding Pedestal positions indexed by chunk.
+ *
+ * <p>Pedestal block entities register themselves when loaded or placed and unregister when
+ * removed or unloaded, so ritual systems can find nearby pedestals by visiting a handful of
+ * chunk buckets instead of probing every block in the search box.
+ *
+ * <p>Each level also carries a pedestal-state revision that changes whenever a pedestal is
+ * registered, unregistered, or changes its bound mob, which lets cached ritual matches detect
+ * pedestal-side changes with one integer comparison.
+ *
+ * <p>In the broader context of the project, this class is the spatial lookup shared by ritual
+ * matching and stale ritual lock recovery.
+ */
+@EventBusSubscriber(modid = Shroud.MOD_ID)
+public final class BindingPedestalRegistry {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Registered pedestal state per level
+    private static final Map<ServerLevel, LevelPedestals> PEDESTALS_BY_LEVEL = new HashMap<>();
+
+    // Utility class constructor
+    private BindingPedestalRegistry() {
+
+    }
+
+    // ==================================
+    //  REGISTRATION
+    // ==================================
+
+    // Registers a loaded pedestal position
+    public static void register(ServerLevel level, BlockPos pos) {
+        LevelPedestals pedestals = PEDESTALS_BY_LEVEL.computeIfAbsent(level, key -> new LevelPedestals());
+
+        boolean added = pedestals.byChunk
+                .computeIfAbsent(ChunkPos.asLong(pos), key -> new LinkedHashSet<>())
+                .add(pos.immutable());
+
+        if (added) {
+            pedestals.revision++;
+        }
+    }
+
+    // Unregisters a removed or unloaded pedestal position
+    public static void unregister(ServerLevel level, BlockPos pos) {
+        LevelPedestals pedestals = PEDESTALS_BY_LEVEL.get(level);
+        if (pedestals == null) return;
+
+        long chunkKey = ChunkPos.asLong(pos);
+        Set<BlockPos> positions = pedestals.byChunk.get(chunkKey);
+        if (positions == null) return;
+
+        if (positions.remove(pos)) {
+            pedestals.revision++;
+        }
+
+        if (positions.isEmpty()) {
+            pedestals.byChunk.remove(chunkKey);
+        }
+    }
+
+    // Records a bound-mob change on a pedestal so cached matches are invalidated
+    public static void markPedestalChanged(ServerLevel level) {
+        PEDESTALS_BY_LEVEL.computeIfAbsent(level, key -> new LevelPedestals()).revision++;
+    }
+
+    // ==================================
+    //  QUERIES
+    // ==================================
+
+    // Returns registered pedestal positions inside the box around a center position
+    public static List<BlockPos> findInRange(ServerLevel level, BlockPos center, int radiusXZ, int radiusY) {
+        LevelPedestals pedestals = PEDESTALS_BY_LEVEL.get(level);
+        if (pedestals == null || pedestals.byChunk.isEmpty()) return List.of();
+
+        List<BlockPos> out = new ArrayList<>();
+
+        int minChunkX = SectionPos.blockToSectionCoord(center.getX() - radiusXZ);
+        int maxChunkX = SectionPos.blockToSectionCoord(center.getX() + radiusXZ);
+        int minChunkZ = SectionPos.blockToSectionCoord(center.getZ() - radiusXZ);
+        int maxChunkZ = SectionPos.blockToSectionCoord(center.getZ() + radiusXZ);
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                Set<BlockPos> positions = pedestals.byChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (positions == null) continue;
+
+                for (BlockPos pos : positions) {
+                    if (Math.abs(pos.getX() - center.getX()) > radiusXZ) continue;
+                    if (Math.abs(pos.getY() - center.getY()) > radiusY) continue;
+                    if (Math.abs(pos.getZ() - center.getZ()) > radiusXZ) continue;
+                    out.add(pos);
+                }
+            }
+        }
+
+        return out;
+    }
+
+    // Returns the current pedestal-state revision for a level
+    public static int getRevision(ServerLevel level) {
+        LevelPedestals pedestals = PEDESTALS_BY_LEVEL.get(level);
+        return pedestals == null ? 0 : pedestals.revision;
+    }
+
+    // ==================================
+    //  LIFECYCLE EVENTS
+    // ==================================
+
+    // Drops all registrations for a level when it unloads
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            PEDESTALS_BY_LEVEL.remove(serverLevel);
+        }
+    }
+
+    // ==================================
+    //  INNER TYPES
+    // ==================================
+
+    // Registered pedestal positions and pedestal-state revision for one level
+    private static final class LevelPedestals {
+
+        // Registered pedestal positions keyed by packed chunk position
+        private final Long2ObjectMap<Set<BlockPos>> byChunk = new Long2ObjectOpenHashMap<>();
+
+        // Revision bumped on every registration or bound-mob change
+        private int revision = 0;
+    }
+}
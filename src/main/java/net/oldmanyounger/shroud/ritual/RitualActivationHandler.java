@@ -1,7 +1,9 @@
 package net.oldmanyounger.shroud.ritual;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.oldmanyounger.shroud.block.entity.ModCorruptedReliquaryBlockEntity;
@@ -12,7 +14,8 @@ import java.util.Optional;
  * Handles ritual activation attempts initiated from the Corrupted Reliquary.
  *
  * <p>This class validates activation preconditions, performs recipe matching, and executes ritual
- * transactions for successful matches.
+ * transactions for successful matches. Activations without a current cached match are matched
+ * asynchronously by {@link RitualAsyncMatcher} and complete on a later server tick.
  *
  * <p>In the broader context of the project, this class is the activation entrypoint that bridges
  * player interaction into ritual matching and execution.
@@ -40,8 +43,29 @@ public final class RitualActivationHandler {
             return new RitualActivationResult(RitualActivationStatus.RELIQUARY_LOCKED, Optional.empty(), Optional.empty());
         }
 
-        Optional<RitualRecipeMatcher.RitualMatchContext> match =
-                RitualRecipeMatcher.findFirstMatch(level, reliquaryPos, reliquaryBe.copyItems());
+        // Uncached matches run off the server thread and complete on a later tick
+        if (!RitualMatchCache.hasCurrentMatch(serverLevel, reliquaryBe) && player instanceof ServerPlayer serverPlayer) {
+            boolean queued = RitualAsyncMatcher.submit(serverLevel, reliquaryPos, serverPlayer, reliquaryBe);
+            return new RitualActivationResult(
+                    queued ? RitualActivationStatus.MATCH_QUEUED : RitualActivationStatus.MATCHER_BUSY,
+                    Optional.empty(),
+                    Optional.empty()
+            );
+        }
+
+        return completeActivation(serverLevel, reliquaryPos, player, reliquaryBe,
+                RitualMatchCache.findMatch(serverLevel, reliquaryPos, reliquaryBe));
+    }
+
+    // Executes a ritual for an already computed match result
+    public static RitualActivationResult completeActivation(ServerLevel serverLevel,
+                                                            BlockPos reliquaryPos,
+                                                            Player player,
+                                                            ModCorruptedReliquaryBlockEntity reliquaryBe,
+                                                            Optional<RitualRecipeMatcher.RitualMatchContext> match) {
+        if (reliquaryBe.isRitualLocked()) {
+            return new RitualActivationResult(RitualActivationStatus.RELIQUARY_LOCKED, Optional.empty(), Optional.empty());
+        }
 
         if (match.isEmpty()) {
             return new RitualActivationResult(RitualActivationStatus.NO_MATCH, Optional.empty(), Optional.empty());
@@ -57,6 +81,22 @@ public final class RitualActivationHandler {
         return new RitualActivationResult(RitualActivationStatus.EXECUTED, match, Optional.of(execution));
     }
 
+    // Sends activation feedback to the player
+    public static void sendFeedback(Player player, RitualActivationResult result) {
+        switch (result.status()) {
+            case RELIQUARY_LOCKED -> player.displayClientMessage(Component.literal("Reliquary is locked"), true);
+            case MATCHER_BUSY -> player.displayClientMessage(Component.literal("Reliquary is busy"), true);
+            case INPUTS_CHANGED -> player.displayClientMessage(Component.literal("Ritual inputs changed"), true);
+            case NO_MATCH -> player.displayClientMessage(Component.literal("No matching ritual"), false);
+            case EXECUTION_FAILED -> player.displayClientMessage(Component.literal(
+                    result.execution().map(RitualExecutionService.RitualExecutionResult::message).orElse("Ritual failed")
+            ), true);
+            case EXECUTED -> player.displayClientMessage(Component.literal("Ritual started"), true);
+            default -> {
+            }
+        }
+    }
+
     /**
      * Ritual activation result payload.
      *
@@ -80,6 +120,9 @@ public final class RitualActivationHandler {
     public enum RitualActivationStatus {
         CLIENT_SIDE,
         RELIQUARY_LOCKED,
+        MATCH_QUEUED,
+        MATCHER_BUSY,
+        INPUTS_CHANGED,
         NO_MATCH,
         EXECUTION_FAILED,
         EXECUTED
@@ -0,0 +1,251 @@
+package net.oldmanyounger.shroud.ritual;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.block.entity.ModCorruptedReliquaryBlockEntity;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs ritual matching for uncached activations on a bounded worker pool.
+ *
+ * <p>Activation captures an immutable snapshot of reliquary items and nearby pedestal bindings on
+ * the server thread and hands it to a small daemon pool. Finished jobs are drained on the next
+ * server tick, where a revision check against the snapshot decides whether the result is still
+ * valid before it is cached and the ritual is started. Each reliquary can have at most one job in
+ * flight, and a full queue rejects new work instead of blocking the tick.
+ *
+ * <p>In the broader context of the project, this class keeps activation click spam on large
+ * ritual packs from stalling the server thread.
+ */
+@EventBusSubscriber(modid = Shroud.MOD_ID)
+public final class RitualAsyncMatcher {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Maximum matching jobs waiting for a worker
+    private static final int QUEUE_CAPACITY = 64;
+
+    // Worker count sized to leave most cores for the server
+    private static final int WORKER_COUNT = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 4));
+
+    // Seconds an idle worker is kept alive
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 30L;
+
+    // Counter used to number worker threads
+    private static final AtomicInteger WORKER_IDS = new AtomicInteger();
+
+    // Bounded daemon worker pool for matching jobs
+    private static final ThreadPoolExecutor WORKERS = createWorkers();
+
+    // Reliquaries with a matching job in flight, accessed only on the server thread
+    private static final Set<ModCorruptedReliquaryBlockEntity> IN_FLIGHT = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // Finished jobs waiting to be committed on the server thread
+    private static final Queue<MatchJob> COMPLETED = new ConcurrentLinkedQueue<>();
+
+    // Utility class constructor
+    private RitualAsyncMatcher() {
+
+    }
+
+    // ==================================
+    //  SUBMISSION
+    // ==================================
+
+    // Queues an asynchronous match for a reliquary and returns false when it cannot be accepted
+    public static boolean submit(ServerLevel level, BlockPos reliquaryPos, ServerPlayer player, ModCorruptedReliquaryBlockEntity reliquaryBe) {
+        if (IN_FLIGHT.contains(reliquaryBe)) return false;
+
+        MatchJob job = new MatchJob(
+                level,
+                reliquaryPos.immutable(),
+                player.getUUID(),
+                reliquaryBe,
+                RitualMatchCache.Stamp.capture(level, reliquaryBe),
+                RitualRecipeMatcher.snapshot(level, reliquaryPos, reliquaryBe)
+        );
+
+        try {
+            WORKERS.execute(() -> runJob(job));
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+
+        IN_FLIGHT.add(reliquaryBe);
+        return true;
+    }
+
+    // Matches a snapshot on a worker thread and hands the result back to the server thread
+    private static void runJob(MatchJob job) {
+        try {
+            job.result = RitualRecipeMatcher.match(job.snapshot());
+        } catch (Exception ex) {
+            Shroud.LOGGER.error("Asynchronous ritual matching failed at {}", job.reliquaryPos(), ex);
+            job.result = Optional.empty();
+        }
+
+        COMPLETED.add(job);
+    }
+
+    // ==================================
+    //  COMPLETION
+    // ==================================
+
+    // Commits finished matching jobs on the server thread
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        MinecraftServer server = event.getServer();
+
+        MatchJob job;
+        while ((job = COMPLETED.poll()) != null) {
+            IN_FLIGHT.remove(job.reliquaryBe());
+
+            // Drops results from a previous server or for a level that is no longer loaded
+            ServerLevel level = job.level();
+            if (level.getServer() != server || server.getLevel(level.dimension()) != level) continue;
+
+            completeJob(job);
+        }
+    }
+
+    // Applies one finished job when its reliquary and revisions are unchanged
+    private static void completeJob(MatchJob job) {
+        ServerLevel level = job.level();
+        ModCorruptedReliquaryBlockEntity reliquaryBe = job.reliquaryBe();
+
+        if (reliquaryBe.isRemoved() || level.getBlockEntity(job.reliquaryPos()) != reliquaryBe) return;
+
+        ServerPlayer player = level.getServer().getPlayerList().getPlayer(job.playerId());
+        if (player == null) return;
+
+        if (!RitualMatchCache.storeIfCurrent(level, reliquaryBe, job.stamp(), job.result)) {
+            RitualActivationHandler.sendFeedback(player, new RitualActivationHandler.RitualActivationResult(
+                    RitualActivationHandler.RitualActivationStatus.INPUTS_CHANGED, Optional.empty(), Optional.empty()
+            ));
+            return;
+        }
+
+        RitualActivationHandler.RitualActivationResult result =
+                RitualActivationHandler.completeActivation(level, job.reliquaryPos(), player, reliquaryBe, job.result);
+        RitualActivationHandler.sendFeedback(player, result);
+    }
+
+    // Drops queued and pending jobs when the server stops so none keeps its level alive
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        WORKERS.getQueue().clear();
+        IN_FLIGHT.clear();
+        COMPLETED.clear();
+    }
+
+    // Drops results from jobs that were still running when the server began stopping
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        IN_FLIGHT.clear();
+        COMPLETED.clear();
+    }
+
+    // ==================================
+    //  INTERNAL HELPERS
+    // ==================================
+
+    // Creates the bounded daemon worker pool
+    private static ThreadPoolExecutor createWorkers() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                WORKER_COUNT,
+                WORKER_COUNT,
+                WORKER_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "Shroud Ritual Matcher #" + WORKER_IDS.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // ==================================
+    //  INNER TYPES
+    // ==================================
+
+    // One matching job from submission to completion
+    private static final class MatchJob {
+        private final ServerLevel level;
+        private final BlockPos reliquaryPos;
+        private final UUID playerId;
+        private final ModCorruptedReliquaryBlockEntity reliquaryBe;
+        private final RitualMatchCache.Stamp stamp;
+        private final RitualRecipeMatcher.MatchSnapshot snapshot;
+        private volatile Optional<RitualRecipeMatcher.RitualMatchContext> result = Optional.empty();
+
+        // Creates a matching job
+        private MatchJob(ServerLevel level,
+                         BlockPos reliquaryPos,
+                         UUID playerId,
+                         ModCorruptedReliquaryBlockEntity reliquaryBe,
+                         RitualMatchCache.Stamp stamp,
+                         RitualRecipeMatcher.MatchSnapshot snapshot) {
+            this.level = level;
+            this.reliquaryPos = reliquaryPos;
+            this.playerId = playerId;
+            this.reliquaryBe = reliquaryBe;
+            this.stamp = stamp;
+            this.snapshot = snapshot;
+        }
+
+        // Returns job level
+        public ServerLevel level() {
+            return level;
+        }
+
+        // Returns reliquary block position
+        public BlockPos reliquaryPos() {
+            return reliquaryPos;
+        }
+
+        // Returns activating player id
+        public UUID playerId() {
+            return playerId;
+        }
+
+        // Returns reliquary block entity
+        public ModCorruptedReliquaryBlockEntity reliquaryBe() {
+            return reliquaryBe;
+        }
+
+        // Returns revisions captured with the snapshot
+        public RitualMatchCache.Stamp stamp() {
+            return stamp;
+        }
+
+        // Returns immutable matching inputs
+        public RitualRecipeMatcher.MatchSnapshot snapshot() {
+            return snapshot;
+        }
+    }
+}
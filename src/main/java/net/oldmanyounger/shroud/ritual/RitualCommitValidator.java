@@ -10,8 +10,9 @@ import java.util.Optional;
 /**
  * Performs commit-time ritual revalidation checks before state mutation.
  *
- * <p>This validator reruns matching against current world state to prevent stale-match execution
- * when blocks, entities, or inputs changed between activation and commit.
+ * <p>This validator rechecks matching against current world state to prevent stale-match execution
+ * when blocks, entities, or inputs changed between activation and commit. Matching goes through the
+ * revision-keyed {@link RitualMatchCache}, so the matcher only reruns when something changed.
  *
  * <p>In the broader context of the project, this class protects ritual transaction integrity
  * across race conditions and world mutation timing.
@@ -27,16 +28,21 @@ public final class RitualCommitValidator {
     public static ValidationResult validateMatchStillHolds(ServerLevel level,
                                                            BlockPos reliquaryPos,
                                                            ModCorruptedReliquaryBlockEntity reliquaryBe,
-                                                           ResourceLocation expectedRecipeId) {
+                                                           ResourceLocation expectedRecipeId,
+                                                           int expectedBatchCount) {
+        if (RitualRecipeIndex.get(level).byId(expectedRecipeId) == null) {
+            return ValidationResult.fail("Ritual recipe is no longer loaded");
+        }
+
         Optional<RitualRecipeMatcher.RitualMatchContext> current =
-                RitualRecipeMatcher.findFirstMatch(level, reliquaryPos, reliquaryBe.copyItems());
+                RitualMatchCache.findMatch(level, reliquaryPos, reliquaryBe);
 
         if (current.isEmpty()) {
             return ValidationResult.fail("No valid ritual match at commit time");
         }
 
         ResourceLocation foundId = current.get().recipe().id();
-        if (!foundId.equals(expectedRecipeId)) {
+        if (!foundId.equals(expectedRecipeId) || current.get().batchCount() != expectedBatchCount) {
             return ValidationResult.fail("Ritual match changed before commit");
         }
 
@@ -3,32 +3,34 @@ package net.oldmanyounger.shroud.ritual;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.world.Container;
-import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.ItemHandlerHelper;
 import net.oldmanyounger.shroud.Shroud;
 import net.oldmanyounger.shroud.block.entity.ModBindingPedestalBlockEntity;
 import net.oldmanyounger.shroud.block.entity.ModCorruptedReliquaryBlockEntity;
 import net.oldmanyounger.shroud.ritual.recipe.RitualRecipe;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
  * Executes ritual transactions after a successful recipe match.
  *
- * <p>This service performs delayed ritual execution by locking participants, progressing
- * particle phases, applying staged mob damage, and committing output only after successful completion.
+ * <p>This service performs delayed ritual execution by locking participants, syncing ritual
+ * visual state for client-side phase particles, applying staged mob damage, and committing output only after successful completion.
+ * In-flight rituals are persisted per level in {@link RitualSessionData} and pause while their
+ * participants are outside entity-ticking chunks.
  *
  * <p>In the broader context of the project, this class is the transactional execution layer
  * for ritual crafting.
@@ -40,30 +42,24 @@ public final class RitualExecutionService {
     //  FIELDS
     // ==================================
 
-    // Ticks spent in coil-up phase
-    private static final int PHASE_COIL_TICKS = 40;
-
-    // Ticks spent in beam-to-altar phase
-    private static final int PHASE_BEAM_TICKS = 50;
-
-    // Ticks spent in altar-focus ball phase
-    private static final int PHASE_BALL_TICKS = 30;
-
-    // Height above reliquary where ritual energy converges
-    private static final double FOCUS_HEIGHT_OFFSET = 1.55D;
-
-    // Radius of swirl around each mob
-    private static final double COIL_RADIUS = 0.42D;
-
-    // Pending ritual queue processed during server ticks
-    private static final List<PendingRitual> PENDING_RITUALS = new ArrayList<>();
-
     // Horizontal stale-lock pedestal scan radius from reliquary
     private static final int STALE_UNLOCK_RADIUS_XZ = 8;
 
     // Vertical stale-lock pedestal scan range above and below reliquary
     private static final int STALE_UNLOCK_RADIUS_Y = 1;
 
+    // Ticks between batched staged-damage hits during the coil phase
+    private static final int DAMAGE_BATCH_INTERVAL_TICKS = 10;
+
+    // Faces tried in order when routing ritual output
+    private static final Direction[] OUTPUT_DIRECTIONS = {
+            Direction.NORTH,
+            Direction.EAST,
+            Direction.SOUTH,
+            Direction.WEST,
+            Direction.DOWN
+    };
+
     // ==================================
     //  CONSTRUCTOR
     // ==================================
@@ -87,7 +83,7 @@ public final class RitualExecutionService {
 
         // Revalidates before any lock or mutation
         RitualCommitValidator.ValidationResult preLockValidation =
-                RitualCommitValidator.validateMatchStillHolds(level, reliquaryPos, reliquaryBe, recipe.id());
+                RitualCommitValidator.validateMatchStillHolds(level, reliquaryPos, reliquaryBe, recipe.id(), matchContext.batchCount());
 
         if (!preLockValidation.isSuccess()) {
             return RitualExecutionResult.fail(preLockValidation.message());
@@ -109,7 +105,7 @@ public final class RitualExecutionService {
 
         // Revalidates again just before queueing
         RitualCommitValidator.ValidationResult preCommitValidation =
-                RitualCommitValidator.validateMatchStillHolds(level, reliquaryPos, reliquaryBe, recipe.id());
+                RitualCommitValidator.validateMatchStillHolds(level, reliquaryPos, reliquaryBe, recipe.id(), matchContext.batchCount());
 
         if (!preCommitValidation.isSuccess()) {
             unlockRitualLocks(reliquaryBe, participantPedestals);
@@ -117,19 +113,25 @@ public final class RitualExecutionService {
         }
 
         int ritualDurationTicks = getRitualDurationTicks(recipe);
-        reliquaryBe.startRitualVisual(level.getGameTime(), ritualDurationTicks);
+        List<BlockPos> pedestalPositions = new ArrayList<>(participantPedestals.size());
+        for (ModBindingPedestalBlockEntity pedestal : participantPedestals) {
+            pedestalPositions.add(pedestal.getBlockPos());
+        }
 
-        float[] damageAppliedByPedestal = new float[participantPedestals.size()];
+        reliquaryBe.startRitualVisual(level.getGameTime(), ritualDurationTicks, pedestalPositions);
 
-        PENDING_RITUALS.add(new PendingRitual(
-                level,
+        RitualSession session = new RitualSession(
                 reliquaryPos,
-                recipe,
-                reliquaryBe,
-                participantPedestals,
-                damageAppliedByPedestal,
-                0
-        ));
+                recipe.id(),
+                pedestalPositions,
+                matchContext.itemAssignment(),
+                reliquaryBe.getInventoryRevision(),
+                new float[participantPedestals.size()],
+                0,
+                matchContext.batchCount()
+        );
+        session.setRunning(true);
+        RitualSessionData.get(level).add(session);
 
         return RitualExecutionResult.success("Ritual started");
     }
@@ -138,102 +140,130 @@ public final class RitualExecutionService {
     //  SERVER TICK PROCESSING
     // ==================================
 
-    // Processes pending ritual progression on each server tick
+    // Processes this level's persisted ritual sessions after each level tick
     @SubscribeEvent
-    public static void onServerTick(ServerTickEvent.Post event) {
-        MinecraftServer server = event.getServer();
-        Iterator<PendingRitual> iterator = PENDING_RITUALS.iterator();
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
 
-        while (iterator.hasNext()) {
-            PendingRitual pending = iterator.next();
+        RitualSessionData data = RitualSessionData.get(level);
+        if (data.isEmpty()) return;
 
-            if (pending.level().getServer() != server) {
-                continue;
-            }
-
-            boolean done = processPendingRitual(pending);
+        for (RitualSession session : List.copyOf(data.sessions())) {
+            boolean done = processSession(level, data, session);
             if (done) {
-                iterator.remove();
+                data.remove(session);
             }
         }
     }
 
-    // Advances one ritual tick and returns true when ritual is finished or failed
-    private static boolean processPendingRitual(PendingRitual pending) {
-        ServerLevel level = pending.level();
-        RitualRecipe recipe = pending.recipe();
-        int ritualDurationTicks = getRitualDurationTicks(recipe);
-        float totalDamagePerMob = Math.max(0.0F, recipe.mobDamagePerRequiredMob());
+    // Advances one ritual tick, marks the store dirty when persisted progress changes, and returns true when ritual is finished or failed
+    private static boolean processSession(ServerLevel level, RitualSessionData data, RitualSession session) {
+        RitualRecipe recipe = RitualRecipeIndex.get(level).byId(session.recipeId());
+        if (recipe == null) {
+            Shroud.LOGGER.warn("Dropping ritual at {} because recipe {} is no longer loaded", session.reliquaryPos(), session.recipeId());
+            unlockSessionLocks(level, session);
+            return true;
+        }
+
+        // Pauses while any participant sits in a chunk that is not entity-ticking or has not loaded its entities
+        if (!isSessionTicking(level, session)) {
+            session.setRunning(false);
+            return false;
+        }
+
+        if (!(level.getBlockEntity(session.reliquaryPos()) instanceof ModCorruptedReliquaryBlockEntity reliquaryBe)) {
+            unlockSessionLocks(level, session);
+            return true;
+        }
 
-        List<ModBindingPedestalBlockEntity> participantPedestals = pending.participantPedestals();
+        List<ModBindingPedestalBlockEntity> participantPedestals = new ArrayList<>(session.pedestalPositions().size());
+        for (BlockPos pedestalPos : session.pedestalPositions()) {
+            if (!(level.getBlockEntity(pedestalPos) instanceof ModBindingPedestalBlockEntity pedestalBe)) {
+                unlockSessionLocks(level, session);
+                return true;
+            }
+            participantPedestals.add(pedestalBe);
+        }
+
+        int ritualDurationTicks = getRitualDurationTicks(recipe);
+        float totalDamagePerMob = Math.max(0.0F, recipe.mobDamagePerRequiredMob()) * session.batchCount();
         int pedestalCount = participantPedestals.size();
 
-        List<LivingEntity> boundMobs = new ArrayList<>(pedestalCount);
+        // Realigns the client visual clock after a restart or chunk reload
+        if (!session.isRunning()) {
+            reliquaryBe.startRitualVisual(level.getGameTime() - session.ticksElapsed(), ritualDurationTicks, session.pedestalPositions());
+            session.setRunning(true);
+        }
+
         for (ModBindingPedestalBlockEntity pedestal : participantPedestals) {
-            LivingEntity living = pedestal.getBoundLivingMob(level);
-            if (living == null) {
-                unlockRitualLocks(pending.reliquaryBe(), participantPedestals);
+            if (!pedestal.isBoundMobPresent(level)) {
+                unlockRitualLocks(reliquaryBe, participantPedestals);
                 return true;
             }
-            boundMobs.add(living);
         }
 
-        int nextTick = pending.ticksElapsed() + 1;
-        emitProgressParticles(level, pending.reliquaryPos(), boundMobs, nextTick, ritualDurationTicks);
+        // Progress particles are synthesized on clients from the synced ritual visual state
+        int nextTick = session.ticksElapsed() + 1;
 
-        if (totalDamagePerMob > 0.0F) {
-            double damageProgress = Mth.clamp(nextTick / (double) PHASE_COIL_TICKS, 0.0D, 1.0D);
+        // Applies accrued whole-point damage as one hit per batch interval and at the coil boundary
+        boolean damageBatchDue = nextTick % DAMAGE_BATCH_INTERVAL_TICKS == 0 || nextTick == RitualPhaseVisuals.PHASE_COIL_TICKS;
+        if (totalDamagePerMob > 0.0F && damageBatchDue && nextTick <= RitualPhaseVisuals.PHASE_COIL_TICKS) {
+            double damageProgress = Mth.clamp(nextTick / (double) RitualPhaseVisuals.PHASE_COIL_TICKS, 0.0D, 1.0D);
             float targetDamageByNow = (float) (totalDamagePerMob * damageProgress);
 
             for (int i = 0; i < pedestalCount; i++) {
                 ModBindingPedestalBlockEntity pedestal = participantPedestals.get(i);
-                float alreadyApplied = pending.damageAppliedByPedestal()[i];
+                float alreadyApplied = session.damageAppliedByPedestal()[i];
+                float due = (float) Math.floor(targetDamageByNow - alreadyApplied);
 
-                while ((alreadyApplied + 1.0F) <= targetDamageByNow) {
-                    boolean damagedAndAlive = pedestal.damageBoundMob(1.0F);
+                if (due >= 1.0F) {
+                    boolean damagedAndAlive = pedestal.damageBoundMob(due);
                     if (!damagedAndAlive) {
-                        unlockRitualLocks(pending.reliquaryBe(), participantPedestals);
+                        unlockRitualLocks(reliquaryBe, participantPedestals);
                         return true;
                     }
-                    alreadyApplied += 1.0F;
+                    session.damageAppliedByPedestal()[i] = alreadyApplied + due;
+                    data.setDirty();
                 }
-
-                pending.damageAppliedByPedestal()[i] = alreadyApplied;
             }
         }
 
         if (nextTick < ritualDurationTicks) {
-            pending.setTicksElapsed(nextTick);
+            session.setTicksElapsed(nextTick);
+            data.setDirty();
             return false;
         }
 
         if (totalDamagePerMob > 0.0F) {
             for (int i = 0; i < pedestalCount; i++) {
                 ModBindingPedestalBlockEntity pedestal = participantPedestals.get(i);
-                float alreadyApplied = pending.damageAppliedByPedestal()[i];
+                float alreadyApplied = session.damageAppliedByPedestal()[i];
                 float remaining = totalDamagePerMob - alreadyApplied;
 
                 if (remaining > 0.0F) {
                     boolean damagedAndAlive = pedestal.damageBoundMob(remaining);
                     if (!damagedAndAlive) {
-                        unlockRitualLocks(pending.reliquaryBe(), participantPedestals);
+                        unlockRitualLocks(reliquaryBe, participantPedestals);
                         return true;
                     }
-                    pending.damageAppliedByPedestal()[i] = totalDamagePerMob;
+                    session.damageAppliedByPedestal()[i] = totalDamagePerMob;
+                    data.setDirty();
                 }
             }
         }
 
-        boolean consumedAtCommit = pending.reliquaryBe().consumeRequirements(recipe.itemRequirements());
+        // Reuses the matched slot assignment and only re-searches if inventory changed meanwhile
+        boolean consumedAtCommit = reliquaryBe.consumeAssignedSlots(session.itemAssignment(), session.matchedRevision())
+                || reliquaryBe.consumeRequirements(RitualItemMatcher.scaleRequirements(recipe.itemRequirements(), session.batchCount()));
         if (!consumedAtCommit) {
-            unlockRitualLocks(pending.reliquaryBe(), participantPedestals);
+            unlockRitualLocks(reliquaryBe, participantPedestals);
             return true;
         }
 
-        ItemStack output = recipe.output().copy();
-        routeOutput(level, pending.reliquaryPos(), output);
-        emitCompletionParticles(level, pending.reliquaryPos());
-        unlockRitualLocks(pending.reliquaryBe(), participantPedestals);
+        ItemStack output = recipe.output().copyWithCount(recipe.output().getCount() * session.batchCount());
+        routeOutput(level, session.reliquaryPos(), reliquaryBe, output);
+        emitCompletionParticles(level, session.reliquaryPos());
+        unlockRitualLocks(reliquaryBe, participantPedestals);
 
         return true;
     }
@@ -242,6 +272,23 @@ public final class RitualExecutionService {
     //  DURATION HELPERS
     // ==================================
 
+    // Returns true when the reliquary and every participating pedestal are in entity-ticking chunks with loaded entities
+    private static boolean isSessionTicking(ServerLevel level, RitualSession session) {
+        if (!isParticipantTicking(level, session.reliquaryPos())) return false;
+
+        for (BlockPos pedestalPos : session.pedestalPositions()) {
+            if (!isParticipantTicking(level, pedestalPos)) return false;
+        }
+
+        return true;
+    }
+
+    // Returns true when a position ticks entities and its chunk's entity section has finished loading
+    private static boolean isParticipantTicking(ServerLevel level, BlockPos pos) {
+        // Entity sections load asynchronously, so bound mobs can be missing for a few ticks after a restart
+        return level.isPositionEntityTicking(pos) && level.areEntitiesLoaded(ChunkPos.asLong(pos));
+    }
+
     // Converts recipe duration seconds into clamped ritual ticks
     private static int getRitualDurationTicks(RitualRecipe recipe) {
         return Math.max(1, recipe.durationSeconds() * 20);
@@ -251,118 +298,6 @@ public final class RitualExecutionService {
     //  PARTICLE VISUALS
     // ==================================
 
-    // Emits ritual progression particles in strict phase order coil then beam then ball
-    private static void emitProgressParticles(ServerLevel level,
-                                              BlockPos reliquaryPos,
-                                              List<LivingEntity> boundMobs,
-                                              int ticksElapsed,
-                                              int ritualDurationTicks) {
-        double focusX = reliquaryPos.getX() + 0.5D;
-        double focusY = reliquaryPos.getY() + FOCUS_HEIGHT_OFFSET;
-        double focusZ = reliquaryPos.getZ() + 0.5D;
-
-        int clampedTick = Mth.clamp(ticksElapsed, 1, ritualDurationTicks);
-
-        int coilEnd = PHASE_COIL_TICKS;
-        int beamEnd = PHASE_COIL_TICKS + PHASE_BEAM_TICKS;
-        int ballEnd = PHASE_COIL_TICKS + PHASE_BEAM_TICKS + PHASE_BALL_TICKS;
-
-        if (ballEnd > ritualDurationTicks) {
-            ballEnd = ritualDurationTicks;
-            beamEnd = Math.min(beamEnd, ballEnd);
-            coilEnd = Math.min(coilEnd, beamEnd);
-        }
-
-        // Phase 1 only coil particles rising around each mob
-        if (clampedTick <= coilEnd) {
-            double coilProgress = clampedTick / (double) Math.max(1, coilEnd);
-
-            for (int i = 0; i < boundMobs.size(); i++) {
-                LivingEntity mob = boundMobs.get(i);
-
-                double mobCenterX = mob.getX();
-                double mobBaseY = mob.getY();
-                double mobTopY = mob.getY() + 2.0D;
-                double mobCenterZ = mob.getZ();
-
-                double angle = (ticksElapsed * 0.40D) + (i * (Math.PI * 2.0D / Math.max(1, boundMobs.size())));
-                double coilY = Mth.lerp(coilProgress, mobBaseY + 0.05D, mobTopY);
-
-                double coilX = mobCenterX + Math.cos(angle) * COIL_RADIUS;
-                double coilZ = mobCenterZ + Math.sin(angle) * COIL_RADIUS;
-
-                level.sendParticles(
-                        ParticleTypes.SCULK_SOUL,
-                        coilX,
-                        coilY,
-                        coilZ,
-                        1,
-                        0.0D,
-                        0.0D,
-                        0.0D,
-                        0.0D
-                );
-            }
-
-            return;
-        }
-
-        // Phase 2 only beam particles from mob head to altar focus
-        if (clampedTick <= beamEnd) {
-            double beamProgress = (clampedTick - coilEnd) / (double) Math.max(1, (beamEnd - coilEnd));
-
-            for (LivingEntity mob : boundMobs) {
-                double headX = mob.getX();
-                double headY = mob.getY() + 2.0D;
-                double headZ = mob.getZ();
-
-                double beamX = Mth.lerp(beamProgress, headX, focusX);
-                double beamY = Mth.lerp(beamProgress, headY, focusY);
-                double beamZ = Mth.lerp(beamProgress, headZ, focusZ);
-
-                level.sendParticles(
-                        ParticleTypes.SCULK_SOUL,
-                        beamX,
-                        beamY,
-                        beamZ,
-                        1,
-                        0.0D,
-                        0.0D,
-                        0.0D,
-                        0.0D
-                );
-            }
-
-            return;
-        }
-
-        // Phase 3 only focus-ball particles boiling above the reliquary
-        double ballProgress = (clampedTick - beamEnd) / (double) Math.max(1, (ballEnd - beamEnd));
-        ballProgress = Mth.clamp(ballProgress, 0.0D, 1.0D);
-
-        double ballRadius = 0.06D + (0.20D * ballProgress);
-        int orbitCount = 4 + (int) Math.floor(ballProgress * 4.0D);
-
-        for (int j = 0; j < orbitCount; j++) {
-            double orbitAngle = (ticksElapsed * 0.25D) + (j * ((Math.PI * 2.0D) / Math.max(1, orbitCount)));
-            double px = focusX + Math.cos(orbitAngle) * ballRadius;
-            double py = focusY + Math.sin((ticksElapsed * 0.12D) + j) * (0.04D + (ballProgress * 0.03D));
-            double pz = focusZ + Math.sin(orbitAngle) * ballRadius;
-
-            level.sendParticles(
-                    ParticleTypes.SCULK_SOUL,
-                    px,
-                    py,
-                    pz,
-                    1,
-                    0.0D,
-                    0.0D,
-                    0.0D,
-                    0.0D
-            );
-        }
-    }
-
     // Emits completion particles at the reliquary after a successful ritual
     private static void emitCompletionParticles(ServerLevel level, BlockPos reliquaryPos) {
         level.sendParticles(
@@ -382,13 +317,13 @@ public final class RitualExecutionService {
     //  OUTPUT ROUTING
     // ==================================
 
-    // Routes ritual output to adjacent containers including below or north-side drop fallback
-    private static void routeOutput(ServerLevel level, BlockPos reliquaryPos, ItemStack output) {
+    // Routes ritual output to adjacent item handlers or containers including below or north-side drop fallback
+    private static void routeOutput(ServerLevel level, BlockPos reliquaryPos, ModCorruptedReliquaryBlockEntity reliquaryBe, ItemStack output) {
         if (output.isEmpty()) return;
 
         ItemStack remainder = output.copy();
 
-        boolean insertedIntoContainer = tryInsertIntoAdjacentContainer(level, reliquaryPos, remainder);
+        boolean insertedIntoContainer = tryInsertIntoAdjacentContainer(level, reliquaryPos, reliquaryBe, remainder);
         if (insertedIntoContainer) {
             return;
         }
@@ -396,23 +331,22 @@ public final class RitualExecutionService {
         dropNorthOfReliquary(level, reliquaryPos, remainder);
     }
 
-    // Tries to insert output stack into any container on four cardinal sides then below
-    private static boolean tryInsertIntoAdjacentContainer(ServerLevel level, BlockPos reliquaryPos, ItemStack stack) {
-        Direction[] directions = new Direction[]{
-                Direction.NORTH,
-                Direction.EAST,
-                Direction.SOUTH,
-                Direction.WEST,
-                Direction.DOWN
-        };
-
-        for (Direction direction : directions) {
-            BlockPos containerPos = reliquaryPos.relative(direction);
-            Container container = getContainerAt(level, containerPos);
-            if (container == null) continue;
-
-            insertIntoContainer(container, stack);
-            container.setChanged();
+    // Tries to insert output stack into any item handler or container on four cardinal sides then below
+    private static boolean tryInsertIntoAdjacentContainer(ServerLevel level,
+                                                          BlockPos reliquaryPos,
+                                                          ModCorruptedReliquaryBlockEntity reliquaryBe,
+                                                          ItemStack stack) {
+        for (Direction direction : OUTPUT_DIRECTIONS) {
+            IItemHandler handler = reliquaryBe.getAdjacentItemHandler(level, direction);
+            if (handler != null) {
+                insertIntoItemHandler(handler, stack);
+            } else {
+                Container container = getContainerAt(level, reliquaryPos.relative(direction));
+                if (container == null) continue;
+
+                insertIntoContainer(container, stack);
+                container.setChanged();
+            }
 
             if (stack.isEmpty()) {
                 return true;
@@ -432,6 +366,15 @@ public final class RitualExecutionService {
         return null;
     }
 
+    // Inserts as much as possible from stack into an item handler after a simulated pass finds room
+    private static void insertIntoItemHandler(IItemHandler handler, ItemStack stack) {
+        ItemStack simulated = ItemHandlerHelper.insertItemStacked(handler, stack, true);
+        if (simulated.getCount() >= stack.getCount()) return;
+
+        ItemStack remainder = ItemHandlerHelper.insertItemStacked(handler, stack.copy(), false);
+        stack.setCount(remainder.getCount());
+    }
+
     // Inserts as much as possible from stack into a container
     private static void insertIntoContainer(Container container, ItemStack stack) {
         for (int slot = 0; slot < container.getContainerSize(); slot++) {
@@ -463,7 +406,7 @@ public final class RitualExecutionService {
         }
     }
 
-    // Drops output one block north of reliquary and one block up
+    // Drops output one block north of reliquary and one block up in stacks no larger than the max size
     private static void dropNorthOfReliquary(ServerLevel level, BlockPos reliquaryPos, ItemStack output) {
         if (output.isEmpty()) return;
 
@@ -473,9 +416,13 @@ public final class RitualExecutionService {
         double y = dropPos.getY() + 0.05D;
         double z = dropPos.getZ() + 0.5D;
 
-        ItemEntity itemEntity = new ItemEntity(level, x, y, z, output);
-        itemEntity.setDefaultPickUpDelay();
-        level.addFreshEntity(itemEntity);
+        while (!output.isEmpty()) {
+            ItemStack dropped = output.split(output.getMaxStackSize());
+
+            ItemEntity itemEntity = new ItemEntity(level, x, y, z, dropped);
+            itemEntity.setDefaultPickUpDelay();
+            level.addFreshEntity(itemEntity);
+        }
     }
 
     // ==================================
@@ -488,30 +435,19 @@ public final class RitualExecutionService {
                                                   ModCorruptedReliquaryBlockEntity reliquaryBe) {
         if (!reliquaryBe.isRitualLocked()) return;
 
-        boolean hasPending = hasPendingRitualAt(level, reliquaryPos);
-        if (hasPending) return;
+        RitualSessionData sessions = RitualSessionData.get(level);
+        if (sessions.hasSessionAt(reliquaryPos)) return;
 
         reliquaryBe.setRitualLocked(false);
         reliquaryBe.clearRitualVisual();
-        unlockNearbyPedestals(level, reliquaryPos);
-    }
-
-    // Returns true when a ritual queue entry exists for this reliquary position
-    private static boolean hasPendingRitualAt(ServerLevel level, BlockPos reliquaryPos) {
-        for (PendingRitual pending : PENDING_RITUALS) {
-            if (pending.level() != level) continue;
-            if (!pending.reliquaryPos().equals(reliquaryPos)) continue;
-            return true;
-        }
-        return false;
+        unlockNearbyPedestals(level, reliquaryPos, sessions);
     }
 
-    // Unlocks nearby binding pedestals that may have stale ritual lock state
-    private static void unlockNearbyPedestals(ServerLevel level, BlockPos reliquaryPos) {
-        BlockPos min = reliquaryPos.offset(-STALE_UNLOCK_RADIUS_XZ, -STALE_UNLOCK_RADIUS_Y, -STALE_UNLOCK_RADIUS_XZ);
-        BlockPos max = reliquaryPos.offset(STALE_UNLOCK_RADIUS_XZ, STALE_UNLOCK_RADIUS_Y, STALE_UNLOCK_RADIUS_XZ);
+    // Unlocks nearby stale-locked pedestals that are not owned by another active session
+    private static void unlockNearbyPedestals(ServerLevel level, BlockPos reliquaryPos, RitualSessionData sessions) {
+        for (BlockPos pos : BindingPedestalRegistry.findInRange(level, reliquaryPos, STALE_UNLOCK_RADIUS_XZ, STALE_UNLOCK_RADIUS_Y)) {
+            if (sessions.isPedestalInSession(pos)) continue;
 
-        for (BlockPos pos : BlockPos.betweenClosed(min, max)) {
             BlockEntity be = level.getBlockEntity(pos);
             if (!(be instanceof ModBindingPedestalBlockEntity pedestalBe)) continue;
             if (!pedestalBe.isRitualLocked()) continue;
@@ -534,6 +470,22 @@ public final class RitualExecutionService {
         }
     }
 
+    // Unlocks whichever session participants are currently loaded without loading chunks
+    private static void unlockSessionLocks(ServerLevel level, RitualSession session) {
+        if (level.isLoaded(session.reliquaryPos())
+                && level.getBlockEntity(session.reliquaryPos()) instanceof ModCorruptedReliquaryBlockEntity reliquaryBe) {
+            reliquaryBe.setRitualLocked(false);
+            reliquaryBe.clearRitualVisual();
+        }
+
+        for (BlockPos pedestalPos : session.pedestalPositions()) {
+            if (level.isLoaded(pedestalPos)
+                    && level.getBlockEntity(pedestalPos) instanceof ModBindingPedestalBlockEntity pedestalBe) {
+                pedestalBe.setRitualLocked(false);
+            }
+        }
+    }
+
     // ==================================
     //  RESULT MODELS
     // ==================================
@@ -574,76 +526,4 @@ public final class RitualExecutionService {
             return message;
         }
     }
-
-    // ==================================
-    //  INNER TYPES
-    // ==================================
-
-    // Represents one queued ritual process instance
-    private static final class PendingRitual {
-        private final ServerLevel level;
-        private final BlockPos reliquaryPos;
-        private final RitualRecipe recipe;
-        private final ModCorruptedReliquaryBlockEntity reliquaryBe;
-        private final List<ModBindingPedestalBlockEntity> participantPedestals;
-        private final float[] damageAppliedByPedestal;
-        private int ticksElapsed;
-
-        // Creates a pending ritual
-        private PendingRitual(ServerLevel level,
-                              BlockPos reliquaryPos,
-                              RitualRecipe recipe,
-                              ModCorruptedReliquaryBlockEntity reliquaryBe,
-                              List<ModBindingPedestalBlockEntity> participantPedestals,
-                              float[] damageAppliedByPedestal,
-                              int ticksElapsed) {
-            this.level = level;
-            this.reliquaryPos = reliquaryPos.immutable();
-            this.recipe = recipe;
-            this.reliquaryBe = reliquaryBe;
-            this.participantPedestals = List.copyOf(participantPedestals);
-            this.damageAppliedByPedestal = damageAppliedByPedestal;
-            this.ticksElapsed = ticksElapsed;
-        }
-
-        // Returns ritual level
-        public ServerLevel level() {
-            return level;
-        }
-
-        // Returns reliquary block position
-        public BlockPos reliquaryPos() {
-            return reliquaryPos;
-        }
-
-        // Returns ritual recipe
-        public RitualRecipe recipe() {
-            return recipe;
-        }
-
-        // Returns reliquary block entity
-        public ModCorruptedReliquaryBlockEntity reliquaryBe() {
-            return reliquaryBe;
-        }
-
-        // Returns participating pedestals
-        public List<ModBindingPedestalBlockEntity> participantPedestals() {
-            return participantPedestals;
-        }
-
-        // Returns per-pedestal applied damage accumulator
-        public float[] damageAppliedByPedestal() {
-            return damageAppliedByPedestal;
-        }
-
-        // Returns elapsed ritual ticks
-        public int ticksElapsed() {
-            return ticksElapsed;
-        }
-
-        // Updates elapsed ritual ticks
-        public void setTicksElapsed(int ticksElapsed) {
-            this.ticksElapsed = ticksElapsed;
-        }
-    }
-}
\ No newline at end of file
+}
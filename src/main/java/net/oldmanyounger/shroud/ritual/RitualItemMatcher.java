@@ -0,0 +1,232 @@
+package net.oldmanyounger.shroud.ritual;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.oldmanyounger.shroud.ritual.recipe.RitualRecipe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+/**
+ * Counted bipartite matcher between ritual item requirements and reliquary slots.
+ *
+ * <p>This matcher groups occupied slots into item kinds and solves a max-flow problem over
+ * (requirement, item-kind) capacities, so overlapping tag requirements resolve in polynomial
+ * time instead of through per-unit backtracking. The result is a per-slot consumption plan
+ * that the commit step can apply directly.
+ *
+ * <p>In the broader context of the project, this class is the single item-assignment algorithm
+ * shared by ritual matching and reliquary requirement consumption.
+ */
+public final class RitualItemMatcher {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Capacity used for requirement-to-kind edges that are limited only by their endpoints
+    private static final int UNBOUNDED = Integer.MAX_VALUE / 2;
+
+    // Utility class constructor
+    private RitualItemMatcher() {
+
+    }
+
+    // ==================================
+    //  MATCHING
+    // ==================================
+
+    /**
+     * Assigns reliquary slot contents to counted item requirements.
+     *
+     * @param requirements counted item requirements to satisfy
+     * @param slotItems reliquary slot contents indexed by slot
+     * @param requireExact true when every stored item must be consumed by the requirements
+     * @return optional per-slot consumption plan when all requirements can be satisfied
+     */
+    public static Optional<ItemAssignment> assign(List<RitualRecipe.ItemRequirement> requirements,
+                                                  List<ItemStack> slotItems,
+                                                  boolean requireExact) {
+        return assign(requirements, slotItems, requireExact, RitualRecipe.ItemRequirement::matches);
+    }
+
+    /**
+     * Assigns reliquary slot contents to counted item requirements using a custom selector test.
+     *
+     * <p>Off-thread matching passes a test backed by tag membership captured on the server
+     * thread, so tag bindings are never read while a reload may be rebinding them.
+     *
+     * @param requirements counted item requirements to satisfy
+     * @param slotItems reliquary slot contents indexed by slot
+     * @param requireExact true when every stored item must be consumed by the requirements
+     * @param matcher test deciding whether a stack satisfies a requirement
+     * @return optional per-slot consumption plan when all requirements can be satisfied
+     */
+    public static Optional<ItemAssignment> assign(List<RitualRecipe.ItemRequirement> requirements,
+                                                  List<ItemStack> slotItems,
+                                                  boolean requireExact,
+                                                  BiPredicate<RitualRecipe.ItemRequirement, ItemStack> matcher) {
+        List<ItemStack> kindSamples = new ArrayList<>();
+        List<IntArrayList> kindSlots = new ArrayList<>();
+        IntArrayList kindUnits = new IntArrayList();
+        Map<Item, Integer> kindByItem = new HashMap<>();
+
+        int availableUnits = 0;
+        for (int slot = 0; slot < slotItems.size(); slot++) {
+            ItemStack stack = slotItems.get(slot);
+            if (stack.isEmpty()) continue;
+
+            int kind = kindByItem.computeIfAbsent(stack.getItem(), item -> {
+                kindSamples.add(stack);
+                kindSlots.add(new IntArrayList());
+                kindUnits.add(0);
+                return kindSamples.size() - 1;
+            });
+
+            kindSlots.get(kind).add(slot);
+            kindUnits.set(kind, kindUnits.getInt(kind) + stack.getCount());
+            availableUnits += stack.getCount();
+        }
+
+        int requiredUnits = 0;
+        for (RitualRecipe.ItemRequirement requirement : requirements) {
+            requiredUnits += Math.max(1, requirement.count());
+        }
+
+        if (requiredUnits > availableUnits) return Optional.empty();
+        if (requireExact && requiredUnits != availableUnits) return Optional.empty();
+
+        int requirementCount = requirements.size();
+        int kindCount = kindSamples.size();
+        int nodeCount = requirementCount + kindCount + 2;
+        int source = 0;
+        int sink = nodeCount - 1;
+
+        int[][] capacity = new int[nodeCount][nodeCount];
+        for (int r = 0; r < requirementCount; r++) {
+            RitualRecipe.ItemRequirement requirement = requirements.get(r);
+            capacity[source][1 + r] = Math.max(1, requirement.count());
+
+            for (int k = 0; k < kindCount; k++) {
+                if (matcher.test(requirement, kindSamples.get(k))) {
+                    capacity[1 + r][1 + requirementCount + k] = UNBOUNDED;
+                }
+            }
+        }
+
+        for (int k = 0; k < kindCount; k++) {
+            capacity[1 + requirementCount + k][sink] = kindUnits.getInt(k);
+        }
+
+        int[][] flow = new int[nodeCount][nodeCount];
+        if (pushMaxFlow(capacity, flow, source, sink) != requiredUnits) {
+            return Optional.empty();
+        }
+
+        // Spreads each kind's consumed units across that kind's slots in slot order
+        int[] consumedPerSlot = new int[slotItems.size()];
+        for (int k = 0; k < kindCount; k++) {
+            int remaining = flow[1 + requirementCount + k][sink];
+            IntArrayList slots = kindSlots.get(k);
+
+            for (int i = 0; i < slots.size() && remaining > 0; i++) {
+                int slot = slots.getInt(i);
+                int take = Math.min(remaining, slotItems.get(slot).getCount());
+                consumedPerSlot[slot] = take;
+                remaining -= take;
+            }
+        }
+
+        return Optional.of(new ItemAssignment(consumedPerSlot));
+    }
+
+    // Returns requirements with every count multiplied for a batch of complete input sets
+    public static List<RitualRecipe.ItemRequirement> scaleRequirements(List<RitualRecipe.ItemRequirement> requirements,
+                                                                       int batchCount) {
+        if (batchCount <= 1) return requirements;
+
+        List<RitualRecipe.ItemRequirement> scaled = new ArrayList<>(requirements.size());
+        for (RitualRecipe.ItemRequirement requirement : requirements) {
+            scaled.add(new RitualRecipe.ItemRequirement(
+                    requirement.item(),
+                    requirement.tag(),
+                    Math.max(1, requirement.count()) * batchCount
+            ));
+        }
+        return scaled;
+    }
+
+    // ==================================
+    //  MAX FLOW
+    // ==================================
+
+    // Runs Edmonds-Karp augmentation over a dense residual graph and returns total flow
+    private static int pushMaxFlow(int[][] capacity, int[][] flow, int source, int sink) {
+        int nodeCount = capacity.length;
+        int[] parent = new int[nodeCount];
+        int[] queue = new int[nodeCount];
+        int total = 0;
+
+        while (true) {
+            Arrays.fill(parent, -1);
+            parent[source] = source;
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = source;
+
+            while (head < tail && parent[sink] == -1) {
+                int u = queue[head++];
+                for (int v = 0; v < nodeCount; v++) {
+                    if (parent[v] != -1) continue;
+                    if (capacity[u][v] - flow[u][v] <= 0) continue;
+
+                    parent[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+
+            if (parent[sink] == -1) {
+                return total;
+            }
+
+            int bottleneck = UNBOUNDED;
+            for (int v = sink; v != source; v = parent[v]) {
+                int u = parent[v];
+                bottleneck = Math.min(bottleneck, capacity[u][v] - flow[u][v]);
+            }
+
+            for (int v = sink; v != source; v = parent[v]) {
+                int u = parent[v];
+                flow[u][v] += bottleneck;
+                flow[v][u] -= bottleneck;
+            }
+
+            total += bottleneck;
+        }
+    }
+
+    // ==================================
+    //  RESULT MODELS
+    // ==================================
+
+    /**
+     * Per-slot consumption plan produced by a successful item assignment.
+     *
+     * <p>In the broader context of the project, this lets ritual commit reuse the assignment
+     * found during matching instead of searching the reliquary again.
+     */
+    public record ItemAssignment(int[] consumedPerSlot) {
+
+        // Returns how many units should be removed from the given slot
+        public int consumedAt(int slot) {
+            return slot >= 0 && slot < consumedPerSlot.length ? consumedPerSlot[slot] : 0;
+        }
+    }
+}
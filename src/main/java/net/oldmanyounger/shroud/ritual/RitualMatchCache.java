@@ -0,0 +1,115 @@
+package net.oldmanyounger.shroud.ritual;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.oldmanyounger.shroud.block.entity.ModCorruptedReliquaryBlockEntity;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Revision-keyed cache of the most recent ritual match result per reliquary.
+ *
+ * <p>Each entry is stamped with the reliquary inventory revision, the level pedestal-state
+ * revision, and the compiled recipe index generation. A lookup reuses the stored result, including
+ * a negative one, while all three stamps are unchanged and reruns the matcher otherwise. Entries are
+ * keyed weakly by block entity identity, so a replaced or unloaded reliquary never reuses a stale
+ * result.
+ *
+ * <p>In the broader context of the project, this class lets activation and both commit-time
+ * revalidations share a single matcher run when nothing changed in between.
+ */
+public final class RitualMatchCache {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Last match result per reliquary block entity
+    private static final Map<ModCorruptedReliquaryBlockEntity, CachedMatch> CACHE = new WeakHashMap<>();
+
+    // Utility class constructor
+    private RitualMatchCache() {
+
+    }
+
+    // ==================================
+    //  LOOKUP
+    // ==================================
+
+    // Returns the current match for a reliquary, rerunning the matcher only when a revision changed
+    public static Optional<RitualRecipeMatcher.RitualMatchContext> findMatch(ServerLevel level,
+                                                                             BlockPos reliquaryPos,
+                                                                             ModCorruptedReliquaryBlockEntity reliquaryBe) {
+        Stamp stamp = Stamp.capture(level, reliquaryBe);
+
+        CachedMatch cached = CACHE.get(reliquaryBe);
+        if (cached != null && cached.stamp().equals(stamp)) {
+            return cached.result();
+        }
+
+        Optional<RitualRecipeMatcher.RitualMatchContext> result =
+                RitualRecipeMatcher.findFirstMatch(level, reliquaryPos, reliquaryBe);
+
+        CACHE.put(reliquaryBe, new CachedMatch(stamp, result));
+        return result;
+    }
+
+    // Returns true when a cached result exists for the reliquary's current revisions
+    public static boolean hasCurrentMatch(ServerLevel level, ModCorruptedReliquaryBlockEntity reliquaryBe) {
+        CachedMatch cached = CACHE.get(reliquaryBe);
+        return cached != null && cached.stamp().equals(Stamp.capture(level, reliquaryBe));
+    }
+
+    // Stores a result computed elsewhere when it is still current for the reliquary
+    public static boolean storeIfCurrent(ServerLevel level,
+                                         ModCorruptedReliquaryBlockEntity reliquaryBe,
+                                         Stamp stamp,
+                                         Optional<RitualRecipeMatcher.RitualMatchContext> result) {
+        if (!stamp.equals(Stamp.capture(level, reliquaryBe))) {
+            return false;
+        }
+
+        CACHE.put(reliquaryBe, new CachedMatch(stamp, result));
+        return true;
+    }
+
+    // ==================================
+    //  INNER TYPES
+    // ==================================
+
+    /**
+     * Revisions a match result was computed against.
+     *
+     * <p>In the broader context of the project, this keeps staleness checks to three integer
+     * comparisons for both cached and asynchronously computed matches.
+     */
+    public record Stamp(
+            int inventoryRevision,
+            int pedestalRevision,
+            int recipeGeneration
+    ) {
+
+        // Captures the current revisions for a reliquary
+        public static Stamp capture(ServerLevel level, ModCorruptedReliquaryBlockEntity reliquaryBe) {
+            return new Stamp(
+                    reliquaryBe.getInventoryRevision(),
+                    BindingPedestalRegistry.getRevision(level),
+                    RitualRecipeIndex.get(level).generation()
+            );
+        }
+    }
+
+    /**
+     * One cached match result with the revisions it was computed against.
+     *
+     * <p>In the broader context of the project, this is the value stored per reliquary.
+     */
+    private record CachedMatch(
+            Stamp stamp,
+            Optional<RitualRecipeMatcher.RitualMatchContext> result
+    ) {
+
+    }
+}
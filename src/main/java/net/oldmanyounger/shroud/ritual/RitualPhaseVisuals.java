@@ -0,0 +1,135 @@
+package net.oldmanyounger.shroud.ritual;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+
+import java.util.List;
+
+/**
+ * Client-side synthesis of ritual progression particles.
+ *
+ * <p>Each reliquary client ticker derives the current ritual tick from the synced visual start
+ * tick and spawns the coil, beam, and focus-ball phases locally from participating pedestal
+ * positions, so the server sends no per-tick particle packets while a ritual runs.
+ *
+ * <p>In the broader context of the project, this class owns ritual phase timing shared by client
+ * visuals and server-side staged mob damage.
+ */
+public final class RitualPhaseVisuals {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Ticks spent in coil-up phase
+    public static final int PHASE_COIL_TICKS = 40;
+
+    // Ticks spent in beam-to-altar phase
+    public static final int PHASE_BEAM_TICKS = 50;
+
+    // Ticks spent in altar-focus ball phase
+    public static final int PHASE_BALL_TICKS = 30;
+
+    // Height above reliquary where ritual energy converges
+    private static final double FOCUS_HEIGHT_OFFSET = 1.55D;
+
+    // Radius of swirl around each mob
+    private static final double COIL_RADIUS = 0.42D;
+
+    // Height above the held mob's feet where coil ends and beams begin
+    private static final double MOB_TOP_OFFSET = 2.0D;
+
+    // Utility class constructor
+    private RitualPhaseVisuals() {
+
+    }
+
+    // ==================================
+    //  PARTICLE VISUALS
+    // ==================================
+
+    // Spawns ritual progression particles in strict phase order coil then beam then ball
+    public static void emitProgressParticles(Level level,
+                                             BlockPos reliquaryPos,
+                                             List<BlockPos> pedestalPositions,
+                                             double holdYOffset,
+                                             int ticksElapsed,
+                                             int ritualDurationTicks) {
+        double focusX = reliquaryPos.getX() + 0.5D;
+        double focusY = reliquaryPos.getY() + FOCUS_HEIGHT_OFFSET;
+        double focusZ = reliquaryPos.getZ() + 0.5D;
+
+        int clampedTick = Mth.clamp(ticksElapsed, 1, ritualDurationTicks);
+
+        int coilEnd = PHASE_COIL_TICKS;
+        int beamEnd = PHASE_COIL_TICKS + PHASE_BEAM_TICKS;
+        int ballEnd = PHASE_COIL_TICKS + PHASE_BEAM_TICKS + PHASE_BALL_TICKS;
+
+        if (ballEnd > ritualDurationTicks) {
+            ballEnd = ritualDurationTicks;
+            beamEnd = Math.min(beamEnd, ballEnd);
+            coilEnd = Math.min(coilEnd, beamEnd);
+        }
+
+        // Phase 1 only coil particles rising around each held mob
+        if (clampedTick <= coilEnd) {
+            double coilProgress = clampedTick / (double) Math.max(1, coilEnd);
+
+            for (int i = 0; i < pedestalPositions.size(); i++) {
+                BlockPos pedestalPos = pedestalPositions.get(i);
+
+                double mobCenterX = pedestalPos.getX() + 0.5D;
+                double mobBaseY = pedestalPos.getY() + holdYOffset;
+                double mobTopY = mobBaseY + MOB_TOP_OFFSET;
+                double mobCenterZ = pedestalPos.getZ() + 0.5D;
+
+                double angle = (ticksElapsed * 0.40D) + (i * (Math.PI * 2.0D / Math.max(1, pedestalPositions.size())));
+                double coilY = Mth.lerp(coilProgress, mobBaseY + 0.05D, mobTopY);
+
+                double coilX = mobCenterX + Math.cos(angle) * COIL_RADIUS;
+                double coilZ = mobCenterZ + Math.sin(angle) * COIL_RADIUS;
+
+                level.addParticle(ParticleTypes.SCULK_SOUL, coilX, coilY, coilZ, 0.0D, 0.0D, 0.0D);
+            }
+
+            return;
+        }
+
+        // Phase 2 only beam particles from mob head to altar focus
+        if (clampedTick <= beamEnd) {
+            double beamProgress = (clampedTick - coilEnd) / (double) Math.max(1, (beamEnd - coilEnd));
+
+            for (BlockPos pedestalPos : pedestalPositions) {
+                double headX = pedestalPos.getX() + 0.5D;
+                double headY = pedestalPos.getY() + holdYOffset + MOB_TOP_OFFSET;
+                double headZ = pedestalPos.getZ() + 0.5D;
+
+                double beamX = Mth.lerp(beamProgress, headX, focusX);
+                double beamY = Mth.lerp(beamProgress, headY, focusY);
+                double beamZ = Mth.lerp(beamProgress, headZ, focusZ);
+
+                level.addParticle(ParticleTypes.SCULK_SOUL, beamX, beamY, beamZ, 0.0D, 0.0D, 0.0D);
+            }
+
+            return;
+        }
+
+        // Phase 3 only focus-ball particles boiling above the reliquary
+        double ballProgress = (clampedTick - beamEnd) / (double) Math.max(1, (ballEnd - beamEnd));
+        ballProgress = Mth.clamp(ballProgress, 0.0D, 1.0D);
+
+        double ballRadius = 0.06D + (0.20D * ballProgress);
+        int orbitCount = 4 + (int) Math.floor(ballProgress * 4.0D);
+
+        for (int j = 0; j < orbitCount; j++) {
+            double orbitAngle = (ticksElapsed * 0.25D) + (j * ((Math.PI * 2.0D) / Math.max(1, orbitCount)));
+            double px = focusX + Math.cos(orbitAngle) * ballRadius;
+            double py = focusY + Math.sin((ticksElapsed * 0.12D) + j) * (0.04D + (ballProgress * 0.03D));
+            double pz = focusZ + Math.sin(orbitAngle) * ballRadius;
+
+            level.addParticle(ParticleTypes.SCULK_SOUL, px, py, pz, 0.0D, 0.0D, 0.0D);
+        }
+    }
+}
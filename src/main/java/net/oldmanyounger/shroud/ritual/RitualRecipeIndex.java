@@ -0,0 +1,213 @@
+package net.oldmanyounger.shroud.ritual;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RecipesUpdatedEvent;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.oldmanyounger.shroud.Shroud;
+import net.oldmanyounger.shroud.ritual.recipe.RitualRecipe;
+import net.oldmanyounger.shroud.ritual.recipe.RitualRecipeRegistries;
+import net.oldmanyounger.shroud.ritual.recipe.RitualRegisteredRecipe;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Compiled, reload-scoped index of runtime ritual recipes.
+ *
+ * <p>This index materializes every registered `shroud:ritual` recipe into its runtime model once
+ * per recipe manager, logging broken recipes a single time instead of on every activation. Indexes
+ * are dropped when datapacks or KubeJS scripts reload and when clients receive a new recipe set.
+ *
+ * <p>In the broader context of the project, this class is the shared recipe source for ritual
+ * matching, commit validation, and the JEI integration.
+ */
+@EventBusSubscriber(modid = Shroud.MOD_ID)
+public final class RitualRecipeIndex {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Compiled indexes keyed by the recipe manager they were built from
+    private static final Map<RecipeManager, RitualRecipeIndex> INDEXES = new WeakHashMap<>();
+
+    // Monotonic counter used to stamp each compiled index
+    private static int nextGeneration = 1;
+
+    // Runtime recipes in recipe manager order
+    private final List<RitualRecipe> recipes;
+
+    // Every item tag referenced by a recipe's item requirements
+    private final Set<TagKey<Item>> requiredTags;
+
+    // Compiled recipes grouped by total required item count in recipe manager order
+    private final Map<Integer, List<CompiledRitual>> compiledByItemCount;
+
+    // Runtime recipes keyed by recipe id
+    private final Map<ResourceLocation, RitualRecipe> recipesById;
+
+    // Generation stamp that changes whenever a new index is compiled
+    private final int generation;
+
+    // ==================================
+    //  CONSTRUCTOR
+    // ==================================
+
+    // Creates an immutable compiled index
+    private RitualRecipeIndex(List<RitualRecipe> recipes, int generation) {
+        this.recipes = List.copyOf(recipes);
+        this.generation = generation;
+
+        Map<ResourceLocation, RitualRecipe> byId = new HashMap<>();
+        Map<Integer, List<CompiledRitual>> byItemCount = new HashMap<>();
+        Set<TagKey<Item>> tags = new HashSet<>();
+
+        for (RitualRecipe recipe : this.recipes) {
+            byId.put(recipe.id(), recipe);
+
+            for (RitualRecipe.ItemRequirement requirement : recipe.itemRequirements()) {
+                if (requirement.tag() != null) {
+                    tags.add(requirement.tag());
+                }
+            }
+
+            RitualRecipeSignature signature = RitualRecipeSignature.of(recipe);
+            byItemCount.computeIfAbsent(signature.totalItemCount(), count -> new ArrayList<>())
+                    .add(new CompiledRitual(recipe, signature));
+        }
+
+        Map<Integer, List<CompiledRitual>> frozen = new HashMap<>();
+        byItemCount.forEach((count, compiled) -> frozen.put(count, List.copyOf(compiled)));
+
+        this.requiredTags = Set.copyOf(tags);
+        this.recipesById = Map.copyOf(byId);
+        this.compiledByItemCount = Map.copyOf(frozen);
+    }
+
+    // ==================================
+    //  ACCESS
+    // ==================================
+
+    // Returns the compiled index for the level's recipe manager
+    public static RitualRecipeIndex get(Level level) {
+        return get(level.getRecipeManager());
+    }
+
+    // Returns the compiled index for a recipe manager, compiling it on first use
+    public static synchronized RitualRecipeIndex get(RecipeManager recipeManager) {
+        RitualRecipeIndex index = INDEXES.get(recipeManager);
+        if (index == null) {
+            index = compile(recipeManager);
+            INDEXES.put(recipeManager, index);
+        }
+        return index;
+    }
+
+    // Drops every compiled index so the next lookup recompiles from current recipes
+    public static synchronized void invalidate() {
+        INDEXES.clear();
+    }
+
+    // Returns runtime recipes in recipe manager order
+    public List<RitualRecipe> recipes() {
+        return recipes;
+    }
+
+    // Returns every item tag referenced by a recipe's item requirements
+    public Set<TagKey<Item>> requiredTags() {
+        return requiredTags;
+    }
+
+    // Returns compiled recipes whose total required item count equals the given count
+    public List<CompiledRitual> candidatesForItemCount(int itemCount) {
+        return compiledByItemCount.getOrDefault(itemCount, List.of());
+    }
+
+    // Returns the runtime recipe with the given id or null when not loaded
+    @Nullable
+    public RitualRecipe byId(ResourceLocation id) {
+        return recipesById.get(id);
+    }
+
+    // Returns the generation stamp of this compiled index
+    public int generation() {
+        return generation;
+    }
+
+    // ==================================
+    //  COMPILATION
+    // ==================================
+
+    // Materializes all registered ritual recipes into runtime models
+    private static RitualRecipeIndex compile(RecipeManager recipeManager) {
+        List<RitualRecipe> compiled = new ArrayList<>();
+
+        for (RecipeHolder<RitualRegisteredRecipe> holder : recipeManager.getAllRecipesFor(RitualRecipeRegistries.RITUAL_TYPE.get())) {
+            try {
+                compiled.add(holder.value().toRuntime(holder.id()));
+            } catch (Exception ex) {
+                Shroud.LOGGER.error("Failed to materialize ritual recipe {}", holder.id(), ex);
+            }
+        }
+
+        return new RitualRecipeIndex(compiled, nextGeneration++);
+    }
+
+    // ==================================
+    //  INNER TYPES
+    // ==================================
+
+    /**
+     * One runtime ritual recipe paired with its precomputed pruning signature.
+     *
+     * <p>In the broader context of the project, this lets the matcher reject most recipes with
+     * a few integer comparisons before attempting full item and pedestal assignment.
+     */
+    public record CompiledRitual(
+            RitualRecipe recipe,
+            RitualRecipeSignature signature
+    ) {
+
+    }
+
+    // ==================================
+    //  INVALIDATION EVENTS
+    // ==================================
+
+    // Drops compiled indexes whenever server data is reloaded
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener((ResourceManagerReloadListener) resourceManager -> invalidate());
+    }
+
+    /**
+     * Client-side invalidation hooks for the compiled ritual index.
+     *
+     * <p>In the broader context of the project, this keeps JEI and client lookups aligned with
+     * the recipe set most recently synced from the server.
+     */
+    @EventBusSubscriber(modid = Shroud.MOD_ID, value = Dist.CLIENT)
+    public static final class ClientEvents {
+
+        // Drops compiled indexes when the client receives updated recipes
+        @SubscribeEvent
+        public static void onRecipesUpdated(RecipesUpdatedEvent event) {
+            invalidate();
+        }
+    }
+}
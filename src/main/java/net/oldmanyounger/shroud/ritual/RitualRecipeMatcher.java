@@ -1,21 +1,26 @@
 package net.oldmanyounger.shroud.ritual;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.NonNullList;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.oldmanyounger.shroud.Shroud;
-import net.oldmanyounger.shroud.block.ModBlocks;
 import net.oldmanyounger.shroud.block.entity.ModBindingPedestalBlockEntity;
+import net.oldmanyounger.shroud.block.entity.ModCorruptedReliquaryBlockEntity;
 import net.oldmanyounger.shroud.ritual.recipe.RitualRecipe;
-import net.oldmanyounger.shroud.ritual.recipe.RitualRecipeRegistries;
-import net.oldmanyounger.shroud.ritual.recipe.RitualRegisteredRecipe;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -23,8 +28,9 @@ import java.util.Set;
 /**
  * Runtime matcher that selects a ritual recipe from reliquary items and nearby bound pedestals.
  *
- * <p>This service performs unordered item matching with extra-item invalidation, then validates
- * mob requirements against nearby pedestals using one-mob-per-pedestal semantics.
+ * <p>This service prunes candidates with precomputed recipe signatures, performs unordered item
+ * matching with extra-item invalidation, then validates mob requirements against nearby pedestals
+ * using one-mob-per-pedestal semantics.
  *
  * <p>In the broader context of the project, this class is the first execution-phase bridge
  * between serializer-loaded ritual recipes and world-state validation.
@@ -49,137 +55,173 @@ public final class RitualRecipeMatcher {
     /**
      * Tries to find the first ritual recipe that matches current reliquary and pedestal state.
      *
-     * <p>Matching order follows recipe manager order for the ritual recipe type.
+     * <p>Matching order follows recipe manager order for the ritual recipe type, read from the
+     * compiled {@link RitualRecipeIndex}. When the reliquary holds an exact multiple of a recipe's
+     * inputs, the match is a batch that crafts that many outputs in one ritual; single crafts are
+     * always preferred over batches.
      *
      * @param level server world level
      * @param reliquaryPos reliquary block position
-     * @param reliquaryItems reliquary internal items
+     * @param reliquaryBe reliquary whose items are matched
      * @return optional successful ritual match context
      */
-    public static Optional<RitualMatchContext> findFirstMatch(Level level, BlockPos reliquaryPos, NonNullList<ItemStack> reliquaryItems) {
-        List<ItemStack> normalizedItems = normalizeReliquaryItems(reliquaryItems);
-        List<PedestalSnapshot> pedestals = collectNearbyPedestals(level, reliquaryPos);
-
-        List<RitualRecipe> runtimeRecipes = level.getRecipeManager()
-                .getAllRecipesFor(RitualRecipeRegistries.RITUAL_TYPE.get())
-                .stream()
-                .map(holder -> toRuntimeRecipe(holder.id(), holder.value()))
-                .flatMap(Optional::stream)
-                .toList();
-
-        for (RitualRecipe recipe : runtimeRecipes) {
-            if (!matchesItems(recipe, normalizedItems)) {
-                continue;
-            }
-
-            Optional<List<PedestalSelection>> pedestalSelection = matchPedestals(recipe, pedestals);
-            if (pedestalSelection.isEmpty()) {
-                continue;
-            }
+    public static Optional<RitualMatchContext> findFirstMatch(Level level, BlockPos reliquaryPos, ModCorruptedReliquaryBlockEntity reliquaryBe) {
+        // Reads the live slot and count views directly since matching completes before the server thread continues
+        return match(capture(
+                level,
+                reliquaryPos,
+                reliquaryBe.getItemsView(),
+                reliquaryBe.getTotalItemCount(),
+                reliquaryBe.getItemKindCountsView()
+        ));
+    }
 
-            return Optional.of(new RitualMatchContext(recipe, pedestalSelection.get()));
+    /**
+     * Captures the immutable inputs needed for matching.
+     *
+     * <p>This must run on the server thread since it reads block entities, the pedestal
+     * registry, and item tag bindings. The returned snapshot can then be matched on any thread.
+     *
+     * @param level server world level
+     * @param reliquaryPos reliquary block position
+     * @param reliquaryBe reliquary whose items are matched
+     * @return matching snapshot holding copied items, item counts, tag membership, and nearby pedestal bindings
+     */
+    public static MatchSnapshot snapshot(Level level, BlockPos reliquaryPos, ModCorruptedReliquaryBlockEntity reliquaryBe) {
+        List<ItemStack> reliquaryItems = reliquaryBe.getItemsView();
+        List<ItemStack> items = new ArrayList<>(reliquaryItems.size());
+        for (ItemStack stack : reliquaryItems) {
+            items.add(stack.isEmpty() ? ItemStack.EMPTY : stack.copy());
         }
 
-        return Optional.empty();
+        return capture(
+                level,
+                reliquaryPos,
+                List.copyOf(items),
+                reliquaryBe.getTotalItemCount(),
+                Object2IntMaps.unmodifiable(new Object2IntOpenHashMap<>(reliquaryBe.getItemKindCountsView()))
+        );
     }
 
-    // Converts registered recipe payload into runtime ritual recipe safely
-    private static Optional<RitualRecipe> toRuntimeRecipe(ResourceLocation id, RitualRegisteredRecipe recipe) {
-        try {
-            return Optional.of(recipe.toRuntime(id));
-        } catch (Exception ex) {
-            Shroud.LOGGER.error("Failed to materialize ritual recipe {}", id, ex);
-            return Optional.empty();
-        }
+    // Builds a snapshot and resolves contents mask and tag membership on the calling server thread
+    private static MatchSnapshot capture(Level level, BlockPos reliquaryPos, List<ItemStack> items, int totalItemCount, Object2IntMap<Item> itemCounts) {
+        RitualRecipeIndex index = RitualRecipeIndex.get(level);
+
+        // Resolves tags here since a reload rebinds them on the server thread while workers match
+        return new MatchSnapshot(
+                index,
+                items,
+                totalItemCount,
+                itemCounts,
+                RitualRecipeSignature.contentsMask(items),
+                collectTagMembers(index, itemCounts.keySet()),
+                collectNearbyPedestals(level, reliquaryPos)
+        );
     }
 
-    // ==================================
-    //  ITEM MATCHING
-    // ==================================
-
-    // Normalizes reliquary slot data into a one-stack-per-entry list
-    private static List<ItemStack> normalizeReliquaryItems(NonNullList<ItemStack> reliquaryItems) {
-        List<ItemStack> out = new ArrayList<>();
-
-        for (ItemStack stack : reliquaryItems) {
-            if (stack.isEmpty()) continue;
-
-            int count = Math.max(1, stack.getCount());
-            for (int i = 0; i < count; i++) {
-                out.add(stack.copyWithCount(1));
+    /**
+     * Finds the first ritual recipe that matches a previously captured snapshot.
+     *
+     * <p>This touches no world state or tag bindings and is safe to run off the server thread.
+     *
+     * @param snapshot immutable matching inputs
+     * @return optional successful ritual match context
+     */
+    public static Optional<RitualMatchContext> match(MatchSnapshot snapshot) {
+        RitualRecipeIndex index = snapshot.index();
+        List<ItemStack> reliquaryItems = snapshot.items();
+        int itemCount = snapshot.totalItemCount();
+
+        // Only recipes whose item count divides the stored count can match since extras invalidate a ritual
+        Map<Integer, List<RitualRecipeIndex.CompiledRitual>> candidatesByBatch = new LinkedHashMap<>();
+        for (int batchCount = 1; batchCount <= Math.max(1, itemCount); batchCount++) {
+            if (itemCount % batchCount != 0) continue;
+
+            List<RitualRecipeIndex.CompiledRitual> candidates = index.candidatesForItemCount(itemCount / batchCount);
+            if (!candidates.isEmpty()) {
+                candidatesByBatch.put(batchCount, candidates);
             }
         }
 
-        return out;
-    }
-
-    // Returns true when reliquary items match recipe requirements exactly and without extras
-    private static boolean matchesItems(RitualRecipe recipe, List<ItemStack> actualItems) {
-        List<RitualRecipe.ItemRequirement> selectors = expandItemRequirements(recipe.itemRequirements());
-
-        if (actualItems.size() != selectors.size()) {
-            return false;
+        if (candidatesByBatch.isEmpty()) {
+            return Optional.empty();
         }
 
-        boolean[] used = new boolean[actualItems.size()];
-        return matchSelectorRecursive(selectors, 0, actualItems, used);
-    }
-
-    // Expands counted item requirements into one selector entry per required unit
-    private static List<RitualRecipe.ItemRequirement> expandItemRequirements(List<RitualRecipe.ItemRequirement> requirements) {
-        List<RitualRecipe.ItemRequirement> out = new ArrayList<>();
-
-        for (RitualRecipe.ItemRequirement req : requirements) {
-            int count = Math.max(1, req.count());
-            for (int i = 0; i < count; i++) {
-                out.add(req);
+        long contentsMask = snapshot.contentsMask();
+        List<PedestalSnapshot> pedestals = snapshot.pedestals();
+        Map<ResourceLocation, Integer> pedestalMobCounts = countPedestalMobs(pedestals);
+
+        // Single crafts are tried first so batching never changes which recipe a plain ritual selects
+        for (Map.Entry<Integer, List<RitualRecipeIndex.CompiledRitual>> entry : candidatesByBatch.entrySet()) {
+            int batchCount = entry.getKey();
+
+            for (RitualRecipeIndex.CompiledRitual candidate : entry.getValue()) {
+                if (!candidate.signature().canMatch(contentsMask, pedestals.size(), pedestalMobCounts)) {
+                    continue;
+                }
+
+                // Rejects recipes whose exact-item requirements exceed stored counts before running the flow
+                if (!candidate.signature().hasItemCounts(snapshot.itemCounts(), batchCount)) {
+                    continue;
+                }
+
+                RitualRecipe recipe = candidate.recipe();
+                Optional<RitualItemMatcher.ItemAssignment> itemAssignment = RitualItemMatcher.assign(
+                        RitualItemMatcher.scaleRequirements(recipe.itemRequirements(), batchCount),
+                        reliquaryItems,
+                        true,
+                        snapshot::matches
+                );
+                if (itemAssignment.isEmpty()) {
+                    continue;
+                }
+
+                Optional<List<PedestalSelection>> pedestalSelection = matchPedestals(recipe, pedestals);
+                if (pedestalSelection.isEmpty()) {
+                    continue;
+                }
+
+                return Optional.of(new RitualMatchContext(recipe, pedestalSelection.get(), itemAssignment.get(), batchCount));
             }
         }
 
-        return out;
+        return Optional.empty();
     }
 
-    // Recursive selector-to-item assignment with one-to-one usage constraints
-    private static boolean matchSelectorRecursive(List<RitualRecipe.ItemRequirement> selectors,
-                                                  int selectorIndex,
-                                                  List<ItemStack> actualItems,
-                                                  boolean[] used) {
-        if (selectorIndex >= selectors.size()) {
-            return true;
-        }
-
-        RitualRecipe.ItemRequirement selector = selectors.get(selectorIndex);
-
-        for (int i = 0; i < actualItems.size(); i++) {
-            if (used[i]) continue;
+    // ==================================
+    //  ITEM MATCHING
+    // ==================================
 
-            ItemStack candidate = actualItems.get(i);
-            if (!selector.matches(candidate)) continue;
+    // Resolves which stored item kinds belong to each tag the loaded recipes reference
+    private static Map<TagKey<Item>, Set<Item>> collectTagMembers(RitualRecipeIndex index, Set<Item> storedItems) {
+        Map<TagKey<Item>, Set<Item>> members = new HashMap<>();
+        for (TagKey<Item> tag : index.requiredTags()) {
+            Set<Item> tagged = new HashSet<>();
+            for (Item item : storedItems) {
+                if (item.builtInRegistryHolder().is(tag)) {
+                    tagged.add(item);
+                }
+            }
 
-            used[i] = true;
-            if (matchSelectorRecursive(selectors, selectorIndex + 1, actualItems, used)) {
-                return true;
+            if (!tagged.isEmpty()) {
+                members.put(tag, Set.copyOf(tagged));
             }
-            used[i] = false;
         }
 
-        return false;
+        return Map.copyOf(members);
     }
 
     // ==================================
     //  PEDESTAL MATCHING
     // ==================================
 
-    // Collects snapshots of nearby bound pedestals
+    // Collects snapshots of nearby bound pedestals from the per-level pedestal registry
     private static List<PedestalSnapshot> collectNearbyPedestals(Level level, BlockPos reliquaryPos) {
-        List<PedestalSnapshot> out = new ArrayList<>();
-
-        BlockPos min = reliquaryPos.offset(-PEDESTAL_RADIUS_XZ, -PEDESTAL_RADIUS_Y, -PEDESTAL_RADIUS_XZ);
-        BlockPos max = reliquaryPos.offset(PEDESTAL_RADIUS_XZ, PEDESTAL_RADIUS_Y, PEDESTAL_RADIUS_XZ);
+        if (!(level instanceof ServerLevel serverLevel)) return List.of();
 
-        for (BlockPos pos : BlockPos.betweenClosed(min, max)) {
-            if (!level.getBlockState(pos).is(ModBlocks.BINDING_PEDESTAL.get())) continue;
+        List<PedestalSnapshot> out = new ArrayList<>();
 
+        for (BlockPos pos : BindingPedestalRegistry.findInRange(serverLevel, reliquaryPos, PEDESTAL_RADIUS_XZ, PEDESTAL_RADIUS_Y)) {
             var be = level.getBlockEntity(pos);
             if (!(be instanceof ModBindingPedestalBlockEntity pedestalBe)) continue;
             if (!pedestalBe.hasBoundMob()) continue;
@@ -187,10 +229,19 @@ public final class RitualRecipeMatcher {
             String mobTypeId = pedestalBe.getBoundMobTypeId();
             if (mobTypeId == null || mobTypeId.isBlank()) continue;
 
-            out.add(new PedestalSnapshot(pos.immutable(), ResourceLocation.parse(mobTypeId)));
+            out.add(new PedestalSnapshot(pos, ResourceLocation.parse(mobTypeId)));
         }
 
-        return out;
+        return List.copyOf(out);
+    }
+
+    // Counts nearby bound pedestals by mob type for signature pruning
+    private static Map<ResourceLocation, Integer> countPedestalMobs(List<PedestalSnapshot> pedestals) {
+        Map<ResourceLocation, Integer> counts = new HashMap<>();
+        for (PedestalSnapshot pedestal : pedestals) {
+            counts.merge(pedestal.boundMobTypeId(), 1, Integer::sum);
+        }
+        return counts;
     }
 
     // Attempts to satisfy recipe mob requirements using one pedestal per mob instance
@@ -231,17 +282,49 @@ public final class RitualRecipeMatcher {
     /**
      * Successful ritual match context used by future activation execution.
      *
-     * <p>This includes the matched recipe and the concrete pedestal selections reserved
-     * for satisfying mob requirements.
+     * <p>This includes the matched recipe, the concrete pedestal selections reserved
+     * for satisfying mob requirements, the reliquary slot assignment to consume at commit, and
+     * the number of complete input sets crafted by this ritual.
      *
      * <p>In the broader context of the project, this object becomes the transaction input
      * for ritual locking, consumption, and completion logic.
      */
     public record RitualMatchContext(
             RitualRecipe recipe,
-            List<PedestalSelection> selectedPedestals
+            List<PedestalSelection> selectedPedestals,
+            RitualItemMatcher.ItemAssignment itemAssignment,
+            int batchCount
+    ) {
+
+    }
+
+    /**
+     * Immutable inputs for one matching pass.
+     *
+     * <p>This holds the compiled recipe index, reliquary items with their total and per-item
+     * unit counts, contents mask, and recipe tag membership, and nearby pedestal bindings, all
+     * captured on the server thread.
+     *
+     * <p>In the broader context of the project, this lets ritual matching run on a worker thread
+     * without reading live world state.
+     */
+    public record MatchSnapshot(
+            RitualRecipeIndex index,
+            List<ItemStack> items,
+            int totalItemCount,
+            Object2IntMap<Item> itemCounts,
+            long contentsMask,
+            Map<TagKey<Item>, Set<Item>> tagMembers,
+            List<PedestalSnapshot> pedestals
     ) {
 
+        // Returns true when a stack satisfies a requirement using only captured tag membership
+        public boolean matches(RitualRecipe.ItemRequirement requirement, ItemStack stack) {
+            if (stack.isEmpty()) return false;
+            if (requirement.item() != null) return stack.getItem() == requirement.item();
+            if (requirement.tag() != null) return tagMembers.getOrDefault(requirement.tag(), Set.of()).contains(stack.getItem());
+            return false;
+        }
     }
 
     /**
@@ -250,7 +333,7 @@ public final class RitualRecipeMatcher {
      * <p>In the broader context of the project, this isolates pedestal scan state from
      * live block entity mutation during matching.
      */
-    private record PedestalSnapshot(
+    public record PedestalSnapshot(
             BlockPos pos,
             ResourceLocation boundMobTypeId
     ) {
@@ -0,0 +1,139 @@
+package net.oldmanyounger.shroud.ritual;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.oldmanyounger.shroud.ritual.recipe.RitualRecipe;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precomputed pruning signature for one ritual recipe.
+ *
+ * <p>A signature stores the total item count, a 64-bit bloom mask of every concrete item and tag
+ * the recipe asks for, the unit count required of each concrete item, and the required mob-type
+ * multiset. Reliquary contents are hashed into the
+ * same mask space so recipes that cannot possibly match are rejected before the full matcher runs.
+ * Bloom collisions only let extra candidates through and never reject a valid recipe.
+ *
+ * <p>In the broader context of the project, this class keeps activation cost proportional to the
+ * number of plausible recipes rather than the size of the loaded ritual pack.
+ */
+public record RitualRecipeSignature(
+        int totalItemCount,
+        long requiredItemMask,
+        Map<Item, Integer> requiredItemCounts,
+        Map<ResourceLocation, Integer> requiredMobCounts,
+        int totalMobCount
+) {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Seed that separates tag bits from item bits in the shared mask
+    private static final int TAG_SEED = 0x6A09E667;
+
+    // ==================================
+    //  CONSTRUCTION
+    // ==================================
+
+    // Builds the signature for a runtime ritual recipe
+    public static RitualRecipeSignature of(RitualRecipe recipe) {
+        int totalItemCount = 0;
+        long requiredItemMask = 0L;
+        Map<Item, Integer> itemCounts = new HashMap<>();
+
+        for (RitualRecipe.ItemRequirement requirement : recipe.itemRequirements()) {
+            totalItemCount += Math.max(1, requirement.count());
+
+            if (requirement.item() != null) {
+                requiredItemMask |= itemBit(requirement.item());
+                itemCounts.merge(requirement.item(), Math.max(1, requirement.count()), Integer::sum);
+            } else if (requirement.tag() != null) {
+                requiredItemMask |= tagBit(requirement.tag());
+            }
+        }
+
+        Map<ResourceLocation, Integer> mobCounts = new HashMap<>();
+        int totalMobCount = 0;
+
+        for (RitualRecipe.MobRequirement requirement : recipe.mobRequirements()) {
+            ResourceLocation typeId = Objects.requireNonNull(BuiltInRegistries.ENTITY_TYPE.getKey(requirement.entityType()));
+            int count = Math.max(1, requirement.count());
+            mobCounts.merge(typeId, count, Integer::sum);
+            totalMobCount += count;
+        }
+
+        return new RitualRecipeSignature(totalItemCount, requiredItemMask, Map.copyOf(itemCounts), Map.copyOf(mobCounts), totalMobCount);
+    }
+
+    // ==================================
+    //  CONTENT HASHING
+    // ==================================
+
+    // Hashes reliquary contents into the same mask space used by recipe signatures
+    public static long contentsMask(List<ItemStack> stacks) {
+        long mask = 0L;
+
+        for (ItemStack stack : stacks) {
+            if (stack.isEmpty()) continue;
+
+            mask |= itemBit(stack.getItem());
+            mask |= stack.getTags().mapToLong(RitualRecipeSignature::tagBit).reduce(0L, (a, b) -> a | b);
+        }
+
+        return mask;
+    }
+
+    // Returns the mask bit for a concrete item
+    private static long itemBit(Item item) {
+        return 1L << (HashCommon.mix(BuiltInRegistries.ITEM.getId(item)) & 63);
+    }
+
+    // Returns the mask bit for an item tag
+    private static long tagBit(TagKey<Item> tag) {
+        return 1L << (HashCommon.mix(tag.location().hashCode() ^ TAG_SEED) & 63);
+    }
+
+    // ==================================
+    //  PRUNING
+    // ==================================
+
+    // Returns false when the contents mask or pedestal counts rule this recipe out
+    public boolean canMatch(long contentsMask, int pedestalCount, Map<ResourceLocation, Integer> pedestalMobCounts) {
+        if ((requiredItemMask & ~contentsMask) != 0L) {
+            return false;
+        }
+
+        if (totalMobCount > pedestalCount) {
+            return false;
+        }
+
+        for (Map.Entry<ResourceLocation, Integer> entry : requiredMobCounts.entrySet()) {
+            if (pedestalMobCounts.getOrDefault(entry.getKey(), 0) < entry.getValue()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Returns false when stored unit counts cannot cover the exact-item requirements of a batch
+    public boolean hasItemCounts(Object2IntMap<Item> storedCounts, int batchCount) {
+        for (Map.Entry<Item, Integer> entry : requiredItemCounts.entrySet()) {
+            if (storedCounts.getInt(entry.getKey()) < entry.getValue() * batchCount) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,216 @@
+package net.oldmanyounger.shroud.ritual;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.FloatTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Position-based state of one in-flight ritual.
+ *
+ * <p>A session stores only block positions, the recipe id, the batch count, the matched slot
+ * assignment, elapsed ticks, and per-pedestal applied damage. Block entities, bound mobs, and the runtime recipe are
+ * resolved from the level on each tick, so a session survives chunk unloads and server restarts
+ * without holding level or block entity references.
+ *
+ * <p>In the broader context of the project, this class is the persisted unit of work owned by
+ * {@link RitualSessionData} and advanced by {@link RitualExecutionService}.
+ */
+public final class RitualSession {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // NBT key for reliquary position
+    private static final String TAG_RELIQUARY_POS = "ReliquaryPos";
+
+    // NBT key for recipe id
+    private static final String TAG_RECIPE_ID = "RecipeId";
+
+    // NBT key for participating pedestal positions
+    private static final String TAG_PEDESTAL_POSITIONS = "PedestalPositions";
+
+    // NBT key for matched per-slot consumption plan
+    private static final String TAG_CONSUMED_PER_SLOT = "ConsumedPerSlot";
+
+    // NBT key for reliquary inventory revision the plan was computed against
+    private static final String TAG_MATCHED_REVISION = "MatchedRevision";
+
+    // NBT key for per-pedestal applied damage
+    private static final String TAG_DAMAGE_APPLIED = "DamageApplied";
+
+    // NBT key for elapsed ritual ticks
+    private static final String TAG_TICKS_ELAPSED = "TicksElapsed";
+
+    // NBT key for number of complete input sets crafted by this ritual
+    private static final String TAG_BATCH_COUNT = "BatchCount";
+
+    // Reliquary block position
+    private final BlockPos reliquaryPos;
+
+    // Ritual recipe id resolved through the compiled recipe index
+    private final ResourceLocation recipeId;
+
+    // Participating pedestal positions in selection order
+    private final List<BlockPos> pedestalPositions;
+
+    // Reliquary slot assignment found during matching
+    private final RitualItemMatcher.ItemAssignment itemAssignment;
+
+    // Reliquary inventory revision the slot assignment was computed against
+    private final int matchedRevision;
+
+    // Damage already applied to each participating pedestal's bound mob
+    private final float[] damageAppliedByPedestal;
+
+    // Number of complete input sets crafted by this ritual
+    private final int batchCount;
+
+    // Elapsed ritual ticks
+    private int ticksElapsed;
+
+    // True while the session is ticking in loaded chunks, never persisted
+    private boolean running;
+
+    // ==================================
+    //  CONSTRUCTOR
+    // ==================================
+
+    // Creates a ritual session
+    public RitualSession(BlockPos reliquaryPos,
+                         ResourceLocation recipeId,
+                         List<BlockPos> pedestalPositions,
+                         RitualItemMatcher.ItemAssignment itemAssignment,
+                         int matchedRevision,
+                         float[] damageAppliedByPedestal,
+                         int ticksElapsed,
+                         int batchCount) {
+        this.reliquaryPos = reliquaryPos.immutable();
+        this.recipeId = recipeId;
+        this.pedestalPositions = pedestalPositions.stream().map(BlockPos::immutable).toList();
+        this.itemAssignment = itemAssignment;
+        this.matchedRevision = matchedRevision;
+        this.damageAppliedByPedestal = damageAppliedByPedestal;
+        this.ticksElapsed = ticksElapsed;
+        this.batchCount = Math.max(1, batchCount);
+    }
+
+    // ==================================
+    //  ACCESSORS
+    // ==================================
+
+    // Returns reliquary block position
+    public BlockPos reliquaryPos() {
+        return reliquaryPos;
+    }
+
+    // Returns ritual recipe id
+    public ResourceLocation recipeId() {
+        return recipeId;
+    }
+
+    // Returns participating pedestal positions
+    public List<BlockPos> pedestalPositions() {
+        return pedestalPositions;
+    }
+
+    // Returns reliquary slot assignment found during matching
+    public RitualItemMatcher.ItemAssignment itemAssignment() {
+        return itemAssignment;
+    }
+
+    // Returns reliquary inventory revision the slot assignment was computed against
+    public int matchedRevision() {
+        return matchedRevision;
+    }
+
+    // Returns per-pedestal applied damage accumulator
+    public float[] damageAppliedByPedestal() {
+        return damageAppliedByPedestal;
+    }
+
+    // Returns elapsed ritual ticks
+    public int ticksElapsed() {
+        return ticksElapsed;
+    }
+
+    // Updates elapsed ritual ticks
+    public void setTicksElapsed(int ticksElapsed) {
+        this.ticksElapsed = ticksElapsed;
+    }
+
+    // Returns number of complete input sets crafted by this ritual
+    public int batchCount() {
+        return batchCount;
+    }
+
+    // Returns true while the session is ticking in loaded chunks
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Updates whether the session is ticking in loaded chunks
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    // ==================================
+    //  SAVE / LOAD
+    // ==================================
+
+    // Writes this session to NBT
+    public CompoundTag save() {
+        CompoundTag tag = new CompoundTag();
+        tag.putLong(TAG_RELIQUARY_POS, reliquaryPos.asLong());
+        tag.putString(TAG_RECIPE_ID, recipeId.toString());
+        tag.putLongArray(TAG_PEDESTAL_POSITIONS, pedestalPositions.stream().mapToLong(BlockPos::asLong).toArray());
+        tag.putIntArray(TAG_CONSUMED_PER_SLOT, itemAssignment.consumedPerSlot());
+        tag.putInt(TAG_MATCHED_REVISION, matchedRevision);
+
+        ListTag damage = new ListTag();
+        for (float applied : damageAppliedByPedestal) {
+            damage.add(FloatTag.valueOf(applied));
+        }
+        tag.put(TAG_DAMAGE_APPLIED, damage);
+
+        tag.putInt(TAG_TICKS_ELAPSED, ticksElapsed);
+        tag.putInt(TAG_BATCH_COUNT, batchCount);
+        return tag;
+    }
+
+    // Reads a session from NBT or returns null when the stored recipe id is malformed
+    @Nullable
+    public static RitualSession load(CompoundTag tag) {
+        ResourceLocation recipeId = ResourceLocation.tryParse(tag.getString(TAG_RECIPE_ID));
+        if (recipeId == null) return null;
+
+        List<BlockPos> pedestalPositions = new ArrayList<>();
+        for (long packed : tag.getLongArray(TAG_PEDESTAL_POSITIONS)) {
+            pedestalPositions.add(BlockPos.of(packed));
+        }
+
+        ListTag damage = tag.getList(TAG_DAMAGE_APPLIED, Tag.TAG_FLOAT);
+        float[] damageAppliedByPedestal = new float[pedestalPositions.size()];
+        for (int i = 0; i < damageAppliedByPedestal.length && i < damage.size(); i++) {
+            damageAppliedByPedestal[i] = damage.getFloat(i);
+        }
+
+        return new RitualSession(
+                BlockPos.of(tag.getLong(TAG_RELIQUARY_POS)),
+                recipeId,
+                pedestalPositions,
+                new RitualItemMatcher.ItemAssignment(tag.getIntArray(TAG_CONSUMED_PER_SLOT)),
+                tag.getInt(TAG_MATCHED_REVISION),
+                damageAppliedByPedestal,
+                tag.getInt(TAG_TICKS_ELAPSED),
+                tag.contains(TAG_BATCH_COUNT) ? tag.getInt(TAG_BATCH_COUNT) : 1
+        );
+    }
+}
@@ -0,0 +1,144 @@
+package net.oldmanyounger.shroud.ritual;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.oldmanyounger.shroud.Shroud;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-level persisted store of in-flight ritual sessions.
+ *
+ * <p>Sessions are saved with the level's other saved data and read back when the level loads,
+ * so a ritual interrupted by a restart resumes where it stopped instead of leaving its
+ * participants locked. Sessions are indexed by reliquary position with a reverse index from each
+ * participating pedestal, so lock checks and stale-lock recovery are hash lookups. The store is
+ * owned by the level's data storage and holds no level or block entity references.
+ *
+ * <p>In the broader context of the project, this class replaces the former static in-memory
+ * ritual queue as the source of truth for which rituals are running.
+ */
+public final class RitualSessionData extends SavedData {
+
+    // ==================================
+    //  FIELDS
+    // ==================================
+
+    // Saved data file name inside the level data folder
+    private static final String DATA_NAME = Shroud.MOD_ID + "_rituals";
+
+    // NBT key for stored sessions
+    private static final String TAG_SESSIONS = "Sessions";
+
+    // Saved data factory used by level data storage
+    private static final SavedData.Factory<RitualSessionData> FACTORY =
+            new SavedData.Factory<>(RitualSessionData::new, RitualSessionData::load, null);
+
+    // Active sessions keyed by reliquary position in start order
+    private final Map<BlockPos, RitualSession> sessionsByReliquary = new LinkedHashMap<>();
+
+    // Reverse index from participating pedestal position to owning reliquary position
+    private final Map<BlockPos, BlockPos> reliquaryByPedestal = new HashMap<>();
+
+    // ==================================
+    //  ACCESS
+    // ==================================
+
+    // Returns the ritual session store for a level, loading or creating it on first use
+    public static RitualSessionData get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(FACTORY, DATA_NAME);
+    }
+
+    // Adds a newly started session
+    public void add(RitualSession session) {
+        index(session);
+        setDirty();
+    }
+
+    // Removes a finished or failed session
+    public void remove(RitualSession session) {
+        if (!sessionsByReliquary.remove(session.reliquaryPos(), session)) return;
+
+        for (BlockPos pedestalPos : session.pedestalPositions()) {
+            reliquaryByPedestal.remove(pedestalPos, session.reliquaryPos());
+        }
+        setDirty();
+    }
+
+    // Returns true when a session exists for the given reliquary position
+    public boolean hasSessionAt(BlockPos reliquaryPos) {
+        return sessionsByReliquary.containsKey(reliquaryPos);
+    }
+
+    // Returns true when the given pedestal participates in an active session
+    public boolean isPedestalInSession(BlockPos pedestalPos) {
+        return reliquaryByPedestal.containsKey(pedestalPos);
+    }
+
+    // Returns true when no sessions are active
+    public boolean isEmpty() {
+        return sessionsByReliquary.isEmpty();
+    }
+
+    // Returns active sessions in start order
+    public Collection<RitualSession> sessions() {
+        return Collections.unmodifiableCollection(sessionsByReliquary.values());
+    }
+
+    // Stores a session in the reliquary and pedestal indexes, dropping any session it replaces
+    private void index(RitualSession session) {
+        RitualSession replaced = sessionsByReliquary.put(session.reliquaryPos(), session);
+
+        // Clears the replaced session's pedestals so none of them stays locked by a session that no longer exists
+        if (replaced != null) {
+            for (BlockPos pedestalPos : replaced.pedestalPositions()) {
+                reliquaryByPedestal.remove(pedestalPos, replaced.reliquaryPos());
+            }
+        }
+
+        for (BlockPos pedestalPos : session.pedestalPositions()) {
+            reliquaryByPedestal.put(pedestalPos, session.reliquaryPos());
+        }
+    }
+
+    // ==================================
+    //  SAVE / LOAD
+    // ==================================
+
+    // Writes all active sessions
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag list = new ListTag();
+        for (RitualSession session : sessionsByReliquary.values()) {
+            list.add(session.save());
+        }
+        tag.put(TAG_SESSIONS, list);
+        return tag;
+    }
+
+    // Reads all stored sessions and skips malformed entries
+    private static RitualSessionData load(CompoundTag tag, HolderLookup.Provider registries) {
+        RitualSessionData data = new RitualSessionData();
+
+        ListTag list = tag.getList(TAG_SESSIONS, Tag.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++) {
+            RitualSession session = RitualSession.load(list.getCompound(i));
+            if (session == null) {
+                Shroud.LOGGER.warn("Dropping stored ritual session with malformed recipe id");
+                continue;
+            }
+            data.index(session);
+        }
+
+        return data;
+    }
+}